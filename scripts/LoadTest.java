@@ -0,0 +1,102 @@
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop load generator for GET /api/ping-external.
+ *
+ * <p>Starts a stub for the external dependency on port 9999 that answers after a fixed delay,
+ * then runs {@code concurrency} clients against the running app for {@code seconds} and prints
+ * throughput and latency percentiles. With a 200 ms dependency and Tomcat limited to N threads,
+ * the platform mode tops out near N / 0.2 requests/sec; async and virtual modes should not.
+ *
+ * <pre>java scripts/LoadTest.java [baseUrl] [concurrency] [seconds] [stubDelayMs]</pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long stubDelayMs = args.length > 3 ? Long.parseLong(args[3]) : 200;
+
+        HttpServer stub = HttpServer.create(new InetSocketAddress(9999), 1024);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            try {
+                Thread.sleep(stubDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.start();
+
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(concurrency))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        String authorization = "Basic " + Base64.getEncoder()
+            .encodeToString("demo:demo123".getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/ping-external"))
+            .header("Authorization", authorization)
+            .timeout(Duration.ofSeconds(30))
+            .build();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 200 || !"pong".equals(response.body())) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - start);
+                }
+                done.countDown();
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+        stub.stop(0);
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("concurrency=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms%n",
+            concurrency, sorted.size(), errors.get(), sorted.size() / (double) seconds,
+            percentile(sorted, 0.50), percentile(sorted, 0.99));
+        System.exit(0);
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1)) / 1_000_000.0;
+    }
+}
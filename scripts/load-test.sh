@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Compares app.execution.mode under a slow external dependency with a deliberately small
+# Tomcat pool, to show whether concurrency scales past server.tomcat.threads.max.
+#
+#   scripts/load-test.sh [concurrency] [seconds] [tomcat-threads]
+set -euo pipefail
+
+CONCURRENCY=${1:-64}
+SECONDS_PER_RUN=${2:-20}
+TOMCAT_THREADS=${3:-8}
+PORT=18080
+JAR=target/demo-springboot-app-0.0.1-SNAPSHOT.jar
+
+cd "$(dirname "$0")/.."
+[ -f "$JAR" ] || mvn -B -q package -DskipTests
+
+for MODE in platform async virtual; do
+  java -jar "$JAR" \
+    --server.port=$PORT \
+    --server.tomcat.threads.max="$TOMCAT_THREADS" \
+    --app.execution.mode=$MODE \
+    --logging.level.com.example.demo=INFO \
+    --spring.jpa.show-sql=false \
+    --spring.jpa.properties.hibernate.show_sql=false \
+    --resilience4j.circuitbreaker.instances.externalService.sliding-window-size=1000 \
+    > "target/load-test-$MODE.log" 2>&1 &
+  APP_PID=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 0.5; done
+
+  echo -n "mode=$MODE tomcat-threads=$TOMCAT_THREADS "
+  java scripts/LoadTest.java "http://localhost:$PORT" "$CONCURRENCY" "$SECONDS_PER_RUN"
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+done
@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Replays the contract requests (src/test/resources/contracts) against the native executable and
+# against the JVM jar from the same build, then reports startup time and resident memory of each.
+# The contract tests themselves mock AdminService, so here the statuses are checked against the
+# real application (DataLoader seeds admins 1 and 2).
+#
+#   scripts/native-smoke.sh
+set -euo pipefail
+
+PORT=18082
+NATIVE=target/admin-service
+JAR=target/demo-springboot-app-0.0.1-SNAPSHOT-exec.jar
+AUTH=demo:demo123
+FAILURES=0
+
+cd "$(dirname "$0")/.."
+[ -x "$NATIVE" ] || mvn -B -q -P native -DskipTests package
+
+now_ms() { date +%s%3N; }
+
+expect() {
+  local name=$1 method=$2 path=$3 want=$4 body=${5:-}
+  local args=(-s -o /dev/null -w '%{http_code}' -u "$AUTH" -X "$method")
+  [ -z "$body" ] || args+=(-H 'Content-Type: application/json' -d "$body")
+  local got; got=$(curl "${args[@]}" "http://localhost:$PORT$path")
+  if [ "$got" = "$want" ]; then
+    echo "  ok   $name"
+  else
+    echo "  FAIL $name: expected $want, got $got"
+    FAILURES=$((FAILURES + 1))
+  fi
+}
+
+smoke() {
+  local name=$1; shift
+  local log="target/native-smoke-$name.log"
+  local t0; t0=$(now_ms)
+  "$@" --server.port=$PORT --logging.file.name= > "$log" 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 0.01; done
+  local ready=$(( $(now_ms) - t0 ))
+  local started; started=$(grep -o 'Started DemoApplication in [0-9.]*' "$log" | awk '{print $4 * 1000}')
+
+  echo "$name:"
+  expect "should create a new admin" POST /api/admins 201 '{"name":"John Doe","email":"john@example.com","age":30}'
+  expect "should get admin by id" GET /api/admins/1 200
+  expect "should get all admins" GET /api/admins 200
+  expect "should update admin" PUT /api/admins/1 200 '{"name":"Updated Name","email":"updated@example.com","age":31}'
+  expect "should delete admin" DELETE /api/admins/1 204
+  expect "should return 404 when admin not found" GET /api/admins/999 404
+  expect "should return 409 when creating admin with duplicate email" POST /api/admins 409 \
+    '{"name":"John Doe 2","email":"john@example.com","age":35}'
+  expect "should return 400 when creating admin with invalid input" POST /api/admins 400 \
+    '{"name":"","email":"invalid-email","age":-1}'
+
+  # Resident set after serving the requests above
+  local rss_kb; rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  printf '  startup %s ms (reported), ready after %s ms, RSS %s MB\n' "$started" "$ready" "$((rss_kb / 1024))"
+}
+
+smoke jvm java -jar "$JAR"
+smoke native "$NATIVE"
+[ "$FAILURES" -eq 0 ]
@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# Startup time and time-to-first-request for the default configuration, the fast-start profile
+# and fast-start with the AppCDS archive. Every mode runs on the same thin-jar class path so only
+# the startup options differ. Needs a JDK 13+ for the archive.
+#
+#   scripts/startup-time.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=18081
+ARCHIVE=target/appcds/admin-service.jsa
+CP="target/demo-springboot-app-0.0.1-SNAPSHOT.jar:target/appcds/lib/*"
+
+cd "$(dirname "$0")/.."
+[ -f "$ARCHIVE" ] || mvn -B -q -P appcds package -DskipTests
+
+now_ms() { date +%s%3N; }
+
+run() {
+  local name=$1; shift
+  local started_total=0 first_total=0
+  for i in $(seq "$RUNS"); do
+    local log="target/startup-$name-$i.log"
+    local t0; t0=$(now_ms)
+    java "$@" -cp "$CP" com.example.demo.DemoApplication \
+      --server.port=$PORT --logging.file.name= > "$log" 2>&1 &
+    local pid=$!
+    # First authenticated admin request: includes anything lazy init or deferred JPA left for later
+    until curl -sf -u demo:demo123 "http://localhost:$PORT/api/admins" > /dev/null; do sleep 0.02; done
+    local first=$(( $(now_ms) - t0 ))
+    local started; started=$(grep -o 'Started DemoApplication in [0-9.]*' "$log" | awk '{print $4 * 1000}')
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    started_total=$(awk -v a="$started_total" -v b="$started" 'BEGIN {print a + b}')
+    first_total=$(( first_total + first ))
+  done
+  awk -v n="$name" -v s="$started_total" -v f="$first_total" -v r="$RUNS" \
+    'BEGIN {printf "%-20s started=%6.0f ms  first-request=%6.0f ms  (mean of %d)\n", n, s / r, f / r, r}'
+}
+
+run default
+run fast-start -Dspring.profiles.active=fast-start
+run fast-start+appcds -Dspring.profiles.active=fast-start -XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto
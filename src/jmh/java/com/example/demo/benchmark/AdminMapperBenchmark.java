@@ -0,0 +1,55 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.functional.AdminProcessor;
+import com.example.demo.mapper.AdminMapper;
+import com.example.demo.model.Admin;
+import com.example.demo.service.impl.AdminServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object cost of the entity/DTO conversions used on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdminMapperBenchmark {
+
+    private Admin admin;
+    private AdminDTO dto;
+    private AdminProcessor<Admin, AdminDTO> customAdminProcessor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        admin = SyntheticAdmins.admins(1).get(0);
+        dto = AdminMapper.toDto(admin);
+
+        // The lambda is private to the service; benchmark the exact instance it uses
+        AdminServiceImpl service = new AdminServiceImpl(null, null, null, null, null);
+        Field field = AdminServiceImpl.class.getDeclaredField("customAdminProcessor");
+        field.setAccessible(true);
+        customAdminProcessor = (AdminProcessor<Admin, AdminDTO>) field.get(service);
+    }
+
+    @Benchmark
+    public AdminDTO toDto() {
+        return AdminMapper.toDto(admin);
+    }
+
+    @Benchmark
+    public Admin toEntity() {
+        return AdminMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public AdminDTO customAdminProcessor() {
+        return customAdminProcessor.process(admin);
+    }
+}
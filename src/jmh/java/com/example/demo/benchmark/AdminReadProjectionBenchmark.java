@@ -0,0 +1,84 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.mapper.AdminMapper;
+import com.example.demo.repository.AdminRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity hydration followed by mapping, against constructor-expression DTO projections, both
+ * inside a read-only transaction. Run with the gc profiler (the profile default) and compare
+ * {@code gc.alloc.rate.norm} to see the bytes saved per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class AdminReadProjectionBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 51);
+
+    @Param({"1000", "100000"})
+    public int admins;
+
+    private ConfigurableApplicationContext context;
+    private AdminRepository repository;
+    private TransactionTemplate readOnly;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SyntheticAdmins.startSeededContext("projection-benchmark", admins);
+        repository = context.getBean(AdminRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        ids = repository.findActiveDtos().stream().mapToLong(AdminDTO::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AdminDTO> listHydrateEntities() {
+        return readOnly.execute(status -> repository.findAll().stream()
+            .filter(admin -> admin.getEmail() != null && admin.getAge() > 0)
+            .map(AdminMapper::toDto)
+            .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<AdminDTO> listDtoProjection() {
+        return readOnly.execute(status -> repository.findActiveDtos());
+    }
+
+    @Benchmark
+    public AdminDTO byIdHydrateEntity() {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return readOnly.execute(status -> repository.findById(id).map(AdminMapper::toDto).orElse(null));
+    }
+
+    @Benchmark
+    public AdminDTO byIdDtoProjection() {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return readOnly.execute(status -> repository.findDtoById(id).orElse(null));
+    }
+
+    @Benchmark
+    public List<AdminDTO> pageDtoProjection() {
+        return readOnly.execute(status -> repository.findActivePageOrderByEmail(PAGE));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminSearchCriteria;
+import com.example.demo.service.AdminService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Indexed search ({@code /api/admins/search}) against the alternative of loading every admin
+ * and filtering the list in memory. Both answer "domain X, age 30..40, first 50 by id".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class AdminSearchBenchmark {
+
+    private static final int DOMAINS = 20;
+    private static final int LIMIT = 50;
+    private static final String DOMAIN = "d7.example.com";
+
+    @Param({"1000", "100000"})
+    public int admins;
+
+    private ConfigurableApplicationContext context;
+    private AdminService service;
+    private AdminSearchCriteria criteria;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SyntheticAdmins.startSeededContext("search-benchmark", admins,
+            i -> new AdminDTO("Admin " + i, "admin" + i + "@d" + (i % DOMAINS) + ".example.com", 18 + i % 50));
+        service = context.getBean(AdminService.class);
+        criteria = new AdminSearchCriteria(null, DOMAIN, 30, 40);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AdminPageDTO indexedSearch() {
+        return service.searchAdmins(criteria, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<AdminDTO> loadAllThenFilter() {
+        return service.getAllAdmins().stream()
+            .filter(admin -> admin.getEmail().endsWith("@" + DOMAIN))
+            .filter(admin -> admin.getAge() >= 30 && admin.getAge() <= 40)
+            .limit(LIMIT)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminSortField;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.service.AdminService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls against an in-memory H2 database. Run with the gc profiler
+ * (the profile default) to compare bytes allocated per call as the table grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class AdminServiceH2Benchmark {
+
+    @Param({"1000", "100000"})
+    public int admins;
+
+    /** Whether /statistics is answered by the in-memory aggregator or by SQL aggregation. */
+    @Param({"false", "true"})
+    public boolean inMemoryStatistics;
+
+    private ConfigurableApplicationContext context;
+    private AdminService service;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SyntheticAdmins.startSeededContext("benchmark", admins,
+            "app.admins.statistics.in-memory.enabled=" + inMemoryStatistics);
+        service = context.getBean(AdminService.class);
+        ids = service.getAllAdmins().stream().mapToLong(AdminDTO::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AdminDTO getAdminById() {
+        return service.getAdminById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public List<AdminDTO> getAllAdmins() {
+        return service.getAllAdmins();
+    }
+
+    @Benchmark
+    public AdminPageDTO getAdminPage() {
+        return service.getAdminPage(null, 50, AdminSortField.EMAIL);
+    }
+
+    @Benchmark
+    public AdminStatisticsDTO getAdminStatistics() {
+        return service.getAdminStatistics(30);
+    }
+}
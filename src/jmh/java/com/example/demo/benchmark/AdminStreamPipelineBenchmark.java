@@ -0,0 +1,64 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.model.Admin;
+import com.example.demo.service.statistics.AdminStatisticsAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Statistics pipelines over synthetic tables of 1k to 1M admins, with the repository replaced by
+ * a list so only the Java side is measured. Admin reads are DTO projections executed by the
+ * database, so they are measured against H2 in {@link AdminReadProjectionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AdminStreamPipelineBenchmark {
+
+    private static final Predicate<Admin> ACTIVE = admin -> admin.getEmail() != null && admin.getAge() > 0;
+
+    @Param({"1000", "100000", "1000000"})
+    public int admins;
+
+    @Param({"30"})
+    public int seniorAgeThreshold;
+
+    private List<Admin> table;
+    private AdminStatisticsAggregator aggregator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = SyntheticAdmins.admins(admins);
+        aggregator = new AdminStatisticsAggregator(SyntheticAdmins.repositoryOver(table), true);
+        aggregator.reconcile();
+    }
+
+    /** The original four-pass statistics pipeline, kept as the baseline. */
+    @Benchmark
+    public AdminStatisticsDTO statisticsFourPassStreams() {
+        List<String> seniorEmails = table.stream()
+            .filter(ACTIVE.and(admin -> admin.getAge() >= seniorAgeThreshold))
+            .map(Admin::getEmail)
+            .sorted()
+            .collect(Collectors.toList());
+        Optional<Admin> youngest = table.stream().filter(ACTIVE).min(Comparator.comparingInt(Admin::getAge));
+        Optional<Admin> oldest = table.stream().filter(ACTIVE).max(Comparator.comparingInt(Admin::getAge));
+        DoubleSummaryStatistics ageStats = table.stream().mapToDouble(Admin::getAge).summaryStatistics();
+        return new AdminStatisticsDTO(ageStats.getAverage(), (int) ageStats.getCount(), seniorEmails,
+            youngest.map(Admin::getName).orElse("No admins found"),
+            oldest.map(Admin::getName).orElse("No admins found"));
+    }
+
+    @Benchmark
+    public AdminStatisticsDTO statisticsInMemoryAggregator() {
+        return aggregator.statistics(seniorAgeThreshold).orElseThrow(IllegalStateException::new);
+    }
+}
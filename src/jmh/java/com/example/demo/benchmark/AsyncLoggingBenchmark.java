@@ -0,0 +1,117 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-request latency of the service's log calls written synchronously, as in the default
+ * profile, or through the prod profile's AsyncAppender. The disk is simulated by a stream
+ * whose flush takes {@code diskLatencyMicros}. Sample mode reports p99 and p99.9 for each
+ * combination, with eight request threads contending for the appender.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class AsyncLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    /** 0 is a page-cache write; 2000 approximates a saturated or network-backed disk. */
+    @Param({"0", "2000"})
+    public int diskLatencyMicros;
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> disk = new OutputStreamAppender<>();
+        disk.setContext(context);
+        disk.setName("DISK");
+        disk.setEncoder(encoder);
+        disk.setOutputStream(new SlowDisk(TimeUnit.MICROSECONDS.toNanos(diskLatencyMicros)));
+        disk.start();
+
+        Appender<ILoggingEvent> target = disk;
+        if ("async".equals(appender)) {
+            // Same settings as application-prod.properties
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(disk);
+            async.start();
+            target = async;
+        }
+
+        logger = context.getLogger("com.example.demo.service.impl.AdminServiceImpl");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(target);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    /** Log calls of one createAdmin request around a fixed slice of CPU work. */
+    @Benchmark
+    public void createAdminRequest() {
+        long id = ThreadLocalRandom.current().nextLong(1_000_000);
+        logger.debug("Attempting to create admin with email: {}", "admin@example.com");
+        Blackhole.consumeCPU(2_000);
+        logger.info("Successfully created admin with ID: {}", id);
+    }
+
+    /** Discards bytes; each flush, one per event with immediateFlush, costs the configured latency. */
+    private static final class SlowDisk extends OutputStream {
+
+        private final long flushNanos;
+
+        SlowDisk(long flushNanos) {
+            this.flushNanos = flushNanos;
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+            if (flushNanos > 0) {
+                LockSupport.parkNanos(flushNanos);
+            }
+        }
+    }
+}
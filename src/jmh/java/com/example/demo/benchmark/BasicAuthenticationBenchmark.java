@@ -0,0 +1,68 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.AuthenticatedCredentialCache;
+import com.example.demo.security.CachingAuthenticationProvider;
+import com.example.demo.security.CredentialCacheEvictingUserDetailsManager;
+import com.example.demo.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentications per second for a repeat Basic login, with the production BCrypt strength,
+ * before (every request hashes) and after (credential cache hit) the cache was introduced,
+ * and for a bearer token verified by {@link TokenService}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BasicAuthenticationBenchmark {
+
+    private AuthenticationProvider bcryptOnly;
+    private AuthenticationProvider cached;
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        AuthenticatedCredentialCache credentialCache = new AuthenticatedCredentialCache(true, Duration.ofMinutes(5), 10_000);
+        CredentialCacheEvictingUserDetailsManager users = new CredentialCacheEvictingUserDetailsManager(credentialCache,
+            User.withUsername("demo").password(passwordEncoder.encode("demo123")).roles("USER").build());
+
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider();
+        dao.setUserDetailsService(users);
+        dao.setPasswordEncoder(passwordEncoder);
+        bcryptOnly = dao;
+        cached = new CachingAuthenticationProvider(dao, credentialCache);
+
+        tokenService = new TokenService("", Duration.ofMinutes(15));
+        token = tokenService.issue(cached.authenticate(new UsernamePasswordAuthenticationToken("demo", "demo123")));
+    }
+
+    @Benchmark
+    public Authentication bcryptEveryRequest() {
+        return bcryptOnly.authenticate(new UsernamePasswordAuthenticationToken("demo", "demo123"));
+    }
+
+    @Benchmark
+    public Authentication credentialCacheHit() {
+        return cached.authenticate(new UsernamePasswordAuthenticationToken("demo", "demo123"));
+    }
+
+    @Benchmark
+    public Authentication bearerToken() {
+        return tokenService.verify(token);
+    }
+}
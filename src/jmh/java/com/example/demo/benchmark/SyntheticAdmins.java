@@ -0,0 +1,101 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.mapper.AdminMapper;
+import com.example.demo.model.Admin;
+import com.example.demo.repository.AdminRepository;
+import com.example.demo.service.AdminService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic admin fixtures shared by the benchmarks.
+ */
+final class SyntheticAdmins {
+
+    private static final int SEED_BATCH = 5000;
+
+    private SyntheticAdmins() {
+    }
+
+    /** Admin {@code i} of a seeded table: unique name and e-mail, ages spread over 18..67. */
+    static AdminDTO adminDto(int i) {
+        return new AdminDTO("Admin " + i, "admin" + i + "@example.com", 18 + i % 50);
+    }
+
+    /**
+     * Starts the application without a web server on its own in-memory H2 database (migrated by
+     * Flyway, SQL logging off, admin cache disabled) and seeds {@code admins} rows through
+     * {@link AdminService#bulkCreateAdmins} in JDBC batches. {@code properties} are added last,
+     * so they override the defaults.
+     */
+    static ConfigurableApplicationContext startSeededContext(String dbName, int admins, String... properties) {
+        return startSeededContext(dbName, admins, SyntheticAdmins::adminDto, properties);
+    }
+
+    static ConfigurableApplicationContext startSeededContext(String dbName, int admins, IntFunction<AdminDTO> admin,
+                                                             String... properties) {
+        List<String> settings = new ArrayList<>(List.of(
+            "spring.datasource.url=jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=validate",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.show_sql=false",
+            "logging.level.root=WARN",
+            "logging.level.com.example.demo=WARN",
+            "app.admins.cache.enabled=false"));
+        settings.addAll(List.of(properties));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(settings.toArray(new String[0]))
+            .run();
+
+        AdminService service = context.getBean(AdminService.class);
+        for (int offset = 0; offset < admins; offset += SEED_BATCH) {
+            List<AdminDTO> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = offset; i < Math.min(admins, offset + SEED_BATCH); i++) {
+                batch.add(admin.apply(i));
+            }
+            service.bulkCreateAdmins(batch);
+        }
+        return context;
+    }
+
+    static List<Admin> admins(int count) {
+        Random random = new Random(42);
+        List<Admin> admins = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Admin admin = new Admin("Admin " + i, "admin" + i + "@example.com", 18 + random.nextInt(50));
+            admin.setId((long) i + 1);
+            admins.add(admin);
+        }
+        return admins;
+    }
+
+    /**
+     * In-memory stand-in for the Spring Data repository so pipeline benchmarks measure the
+     * statistics code rather than JDBC. Only the methods the benchmarks exercise are supported.
+     */
+    static AdminRepository repositoryOver(List<Admin> admins) {
+        return (AdminRepository) Proxy.newProxyInstance(
+            AdminRepository.class.getClassLoader(),
+            new Class<?>[] {AdminRepository.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "streamAllAsDto":
+                        return admins.stream().map(AdminMapper::toDto);
+                    case "toString":
+                        return "SyntheticAdminRepository";
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
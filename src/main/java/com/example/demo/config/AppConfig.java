@@ -1,13 +1,56 @@
 package com.example.demo.config;
 
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@EnableScheduling
 public class AppConfig {
+
+    /** Keep-alive connection pool for outbound calls; limits are per route and in total. */
+    @Bean
+    public PoolingHttpClientConnectionManager externalConnectionManager(
+            @Value("${app.external.http.max-total:50}") int maxTotal,
+            @Value("${app.external.http.max-per-route:20}") int maxPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(2_000);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient externalHttpClient(PoolingHttpClientConnectionManager externalConnectionManager,
+            @Value("${app.external.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${app.external.http.read-timeout:2s}") Duration readTimeout,
+            @Value("${app.external.http.connection-request-timeout:500ms}") Duration connectionRequestTimeout,
+            @Value("${app.external.http.idle-timeout:30s}") Duration idleTimeout) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout((int) connectTimeout.toMillis())
+            .setSocketTimeout((int) readTimeout.toMillis())
+            .setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+            .build();
+        return HttpClients.custom()
+            .setConnectionManager(externalConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient externalHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(externalHttpClient));
     }
 }
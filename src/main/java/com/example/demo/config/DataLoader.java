@@ -5,8 +5,11 @@ import com.example.demo.repository.AdminRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+// Sample rows for local runs; a production database is never seeded
 @Configuration
+@Profile("!prod")
 public class DataLoader {
     @Bean
     CommandLineRunner init(AdminRepository repo) {
@@ -0,0 +1,71 @@
+package com.example.demo.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.Duration;
+
+/**
+ * Selects how blocking API requests are executed ({@code app.execution.mode}):
+ * <ul>
+ *   <li>{@code platform} (default) - Tomcat's own thread pool, {@code server.tomcat.threads.max}</li>
+ *   <li>{@code virtual} - Tomcat runs every request on a virtual thread (Java 21+); on older
+ *       runtimes this falls back to {@code async}</li>
+ *   <li>{@code async} - {@link OffloadingHandlerAdapter} runs admin and ping-external handlers on a
+ *       bounded executor sized by {@code app.execution.async.*}</li>
+ * </ul>
+ */
+@Configuration
+public class ExecutionModeConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionModeConfig.class);
+
+    static final String MODE_PROPERTY = "app.execution.mode";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> VirtualThreads.newPerTaskExecutor().ifPresentOrElse(executor -> {
+            if (protocolHandler instanceof AbstractProtocol) {
+                ((AbstractProtocol<?>) protocolHandler).setExecutor(executor);
+                LOGGER.info("Serving requests on virtual threads");
+            }
+        }, () -> LOGGER.warn("Virtual threads are not available on Java {}, offloading requests to the async executor",
+            System.getProperty("java.specification.version")));
+    }
+
+    @Bean
+    @Conditional(AsyncOffloadCondition.class)
+    public WebMvcRegistrations offloadingMvcRegistrations(@Value("${app.execution.async.max-threads:200}") int maxThreads,
+                                                          @Value("${app.execution.async.queue-capacity:1000}") int queueCapacity,
+                                                          @Value("${app.execution.async.timeout:30s}") Duration timeout) {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new OffloadingHandlerAdapter(maxThreads, queueCapacity, timeout);
+            }
+        };
+    }
+
+    /** {@code async}, or {@code virtual} on a runtime without virtual threads. */
+    static class AsyncOffloadCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            String mode = context.getEnvironment().getProperty(MODE_PROPERTY, "platform");
+            return "async".equalsIgnoreCase(mode) || ("virtual".equalsIgnoreCase(mode) && !VirtualThreads.isSupported());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shuts the JVM down as soon as startup completes. The AppCDS training run ({@code -P appcds})
+ * sets {@code app.startup.exit-on-ready=true} so the archive holds exactly the classes startup loads.
+ */
+@Component
+@ConditionalOnProperty(name = "app.startup.exit-on-ready", havingValue = "true")
+public class ExitOnReady implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
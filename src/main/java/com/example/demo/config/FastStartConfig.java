@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.AdminController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The fast-start profile ({@code application-fast-start.properties}) makes every bean lazy.
+ * The admin API is the exception: its controller, and through it the service, cache and
+ * repository, are still created during startup so the first admin request does not pay for
+ * them. Actuator, Resilience4j, the outbound client and the token endpoint are created on first use.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerAdminApi() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AdminController.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.config;
+
+import com.example.demo.service.cache.AdminCache;
+import com.example.demo.service.external.ExternalResponseCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application meters. Repository timers, HikariCP pool gauges and the Resilience4j circuit
+ * breaker state come from auto-configuration; percentiles and histograms are set in
+ * {@code application.properties}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Enables {@code @Timed} on service methods. */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /** Cache statistics are read lazily at scrape time, so lookups pay nothing extra. */
+    @Bean
+    public MeterBinder adminCacheMetrics(AdminCache adminCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", adminCache, cache -> cache.stats().hitCount())
+                .tag("cache", "admins").tag("result", "hit")
+                .description("Admin lookups served from the cache")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", adminCache, cache -> cache.stats().missCount())
+                .tag("cache", "admins").tag("result", "miss")
+                .description("Admin lookups that went to the database")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", adminCache, cache -> cache.stats().evictionCount())
+                .tag("cache", "admins")
+                .register(registry);
+            Gauge.builder("cache.size", adminCache, AdminCache::estimatedSize)
+                .tag("cache", "admins")
+                .register(registry);
+        };
+    }
+
+    /** Leased, pending and available connections of the outbound HTTP pool. */
+    @Bean
+    public MeterBinder externalConnectionPoolMetrics(PoolingHttpClientConnectionManager externalConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(externalConnectionManager, "externalService");
+    }
+
+    /** Hit ratio = hit / (hit + stale + miss); coalesced counts callers that joined an in-flight call. */
+    @Bean
+    public MeterBinder externalResponseCacheMetrics(ExternalResponseCache responseCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", responseCache, ExternalResponseCache::hitCount)
+                .tag("cache", "externalService").tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", responseCache, ExternalResponseCache::staleHitCount)
+                .tag("cache", "externalService").tag("result", "stale")
+                .description("Stale responses served while a refresh ran")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", responseCache, ExternalResponseCache::missCount)
+                .tag("cache", "externalService").tag("result", "miss")
+                .register(registry);
+            FunctionCounter.builder("external.calls.coalesced", responseCache, ExternalResponseCache::coalescedCount)
+                .description("Callers that shared an in-flight external call instead of starting one")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.AdminController;
+import com.example.demo.controller.ResilienceController;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs admin and ping-external handler methods on a bounded executor through Spring MVC async,
+ * so the Tomcat thread is released while the DB or external call blocks and concurrency is
+ * bounded by the offload executor (and the DB pool) instead of {@code server.tomcat.threads.max}.
+ *
+ * <p>Arguments are resolved, and the request is authenticated, on the container thread; only the
+ * controller method runs on the executor, returned to MVC as a {@link WebAsyncTask}. The response
+ * is written after the async dispatch back on a container thread, exactly as for a controller that
+ * returns a {@code Callable}. A saturated executor or a request exceeding the timeout is answered
+ * with 503.
+ */
+public class OffloadingHandlerAdapter extends RequestMappingHandlerAdapter implements DisposableBean {
+
+    private static final Set<Class<?>> OFFLOADED_CONTROLLERS = Set.of(AdminController.class, ResilienceController.class);
+    // Handlers that already return one of these release the container thread themselves
+    private static final List<Class<?>> ASYNC_RETURN_TYPES = List.of(StreamingResponseBody.class,
+        CompletionStage.class, Callable.class, DeferredResult.class, WebAsyncTask.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+    private final Map<Method, Boolean> offloadedMethods = new ConcurrentHashMap<>();
+
+    public OffloadingHandlerAdapter(int maxThreads, int queueCapacity, Duration timeout) {
+        this.executor = new ThreadPoolTaskExecutor();
+        // Core == max with idle timeout: new threads are started up to max before anything is queued
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("api-offload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        // Called for every request; the return type inspection is done once per method
+        boolean offloaded = offloadedMethods.computeIfAbsent(handlerMethod.getMethod(), method -> isOffloaded(handlerMethod));
+        return offloaded ? new OffloadedHandlerMethod(handlerMethod) : super.createInvocableHandlerMethod(handlerMethod);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    ThreadPoolExecutor getThreadPoolExecutor() {
+        return executor.getThreadPoolExecutor();
+    }
+
+    static boolean isOffloaded(HandlerMethod handlerMethod) {
+        if (!OFFLOADED_CONTROLLERS.contains(handlerMethod.getBeanType())) {
+            return false;
+        }
+        Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+        if (ResponseEntity.class.isAssignableFrom(returnType)) {
+            returnType = ResolvableType.forMethodParameter(handlerMethod.getReturnType()).getGeneric().resolve(Object.class);
+        }
+        for (Class<?> asyncType : ASYNC_RETURN_TYPES) {
+            if (asyncType.isAssignableFrom(returnType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class OffloadedHandlerMethod extends ServletInvocableHandlerMethod {
+
+        OffloadedHandlerMethod(HandlerMethod handlerMethod) {
+            super(handlerMethod);
+        }
+
+        // The original return value becomes the task's result and is handled after the async dispatch
+        @Override
+        protected Object doInvoke(Object... args) {
+            Callable<Object> invocation = () -> OffloadedHandlerMethod.super.doInvoke(args);
+            return new WebAsyncTask<>(timeoutMillis, executor, invocation);
+        }
+    }
+}
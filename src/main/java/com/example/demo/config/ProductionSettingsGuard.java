@@ -0,0 +1,80 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Refuses to start the prod profile with settings that are only safe on a developer machine.
+ * Runs as a bean factory post-processor, before the DataSource and JPA exist, so a stray
+ * {@code ddl-auto=update} never reaches the schema.
+ */
+@Component
+@Profile("prod")
+public class ProductionSettingsGuard implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    static final String DEV_PASSWORD = "demo123";
+    static final Duration MAX_ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(1);
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        List<String> problems = findProblems(environment);
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Refusing to start with the prod profile: " + String.join("; ", problems));
+        }
+    }
+
+    static List<String> findProblems(Environment environment) {
+        List<String> problems = new ArrayList<>();
+
+        // Unset is not safe: Boot then defaults to create-drop for embedded databases
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto");
+        if (!StringUtils.hasText(ddlAuto)) {
+            problems.add("spring.jpa.hibernate.ddl-auto must be set explicitly to validate or none");
+        } else if (!"validate".equals(ddlAuto) && !"none".equals(ddlAuto)) {
+            problems.add("spring.jpa.hibernate.ddl-auto must be validate or none, was " + ddlAuto);
+        }
+        requireFalse(environment, "spring.jpa.open-in-view", true, problems);
+        requireFalse(environment, "spring.h2.console.enabled", false, problems);
+        requireFalse(environment, "spring.jpa.show-sql", false, problems);
+        requireFalse(environment, "spring.jpa.properties.hibernate.show_sql", false, problems);
+        requireFalse(environment, "spring.jpa.properties.hibernate.format_sql", false, problems);
+        if (StringUtils.hasText(environment.getProperty("spring.devtools.remote.secret"))) {
+            problems.add("spring.devtools.remote.secret must be empty (it enables devtools remote access)");
+        }
+        String password = environment.getProperty("app.demo.password", DEV_PASSWORD);
+        if (!StringUtils.hasText(password) || DEV_PASSWORD.equals(password)) {
+            problems.add("app.demo.password must be set and differ from the development default");
+        }
+        Duration asyncTimeout = Binder.get(environment)
+            .bind("spring.mvc.async.request-timeout", Duration.class)
+            .orElse(Duration.ZERO);
+        if (asyncTimeout.compareTo(MAX_ASYNC_REQUEST_TIMEOUT) > 0) {
+            problems.add("spring.mvc.async.request-timeout must be at most " + MAX_ASYNC_REQUEST_TIMEOUT
+                + ", was " + asyncTimeout);
+        }
+        return problems;
+    }
+
+    private static void requireFalse(Environment environment, String key, boolean defaultValue, List<String> problems) {
+        if (environment.getProperty(key, Boolean.class, defaultValue)) {
+            problems.add(key + " must be false");
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.demo.config;
 
+import com.example.demo.security.AuthenticatedCredentialCache;
+import com.example.demo.security.CachingAuthenticationProvider;
+import com.example.demo.security.CredentialCacheEvictingUserDetailsManager;
+import com.example.demo.security.TokenAuthenticationFilter;
+import com.example.demo.security.TokenService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.*;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -20,26 +30,50 @@ public class SecurityConfig {
     private String password;
 
     @Bean
-    public InMemoryUserDetailsManager userDetailsService() {
+    public InMemoryUserDetailsManager userDetailsService(AuthenticatedCredentialCache credentialCache) {
         String encoded = passwordEncoder().encode(password);
         org.springframework.security.core.userdetails.UserDetails user =
             org.springframework.security.core.userdetails.User.withUsername(username)
                 .password(encoded)
                 .roles("USER")
                 .build();
-        return new InMemoryUserDetailsManager(user);
+        return new CredentialCacheEvictingUserDetailsManager(credentialCache, user);
     }
 
+    /**
+     * BCrypt verification wrapped in a short-lived credential cache so repeat Basic logins
+     * skip the hash. Being the only provider bean, it backs the global AuthenticationManager.
+     */
     @Bean
-    public org.springframework.security.web.SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public AuthenticationProvider authenticationProvider(InMemoryUserDetailsManager userDetailsService,
+                                                         AuthenticatedCredentialCache credentialCache) {
+        DaoAuthenticationProvider bcrypt = new DaoAuthenticationProvider();
+        bcrypt.setUserDetailsService(userDetailsService);
+        bcrypt.setPasswordEncoder(passwordEncoder());
+        return new CachingAuthenticationProvider(bcrypt, credentialCache);
+    }
+
+    @Bean
+    public org.springframework.security.web.SecurityFilterChain filterChain(HttpSecurity http,
+                                                                            ObjectProvider<TokenService> tokenService) throws Exception {
         http
           .csrf().disable()
           .authorizeRequests()
             .antMatchers("/h2-console/**").permitAll()
+            // Liveness probes stay anonymous; metrics expose pool and circuit breaker internals
+            .antMatchers("/actuator/health", "/actuator/health/**").permitAll()
+            .antMatchers("/actuator/**").authenticated()
             .antMatchers("/api/**").authenticated()
             .and()
           .httpBasic();
 
+        // Token mode (app.security.token.enabled): bearer tokens are checked before Basic, no sessions
+        TokenService tokens = tokenService.getIfAvailable();
+        if (tokens != null) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokens), BasicAuthenticationFilter.class)
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        }
+
         http.headers().frameOptions().disable();
         return http.build();
     }
@@ -1,14 +1,36 @@
 package com.example.demo.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminPatchDTO;
+import com.example.demo.dto.AdminSearchCriteria;
+import com.example.demo.dto.AdminSortField;
 import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.dto.BulkCreateResponseDTO;
+import com.example.demo.dto.BulkDeleteRequestDTO;
+import com.example.demo.dto.BulkDeleteResponseDTO;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.PreconditionRequiredException;
 import com.example.demo.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -16,11 +38,23 @@ import java.util.List;
 @Validated
 public class AdminController {
 	
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    // Clients may keep a copy but must revalidate it with If-None-Match every time
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
 	private final AdminService service;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.admins.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${app.admins.bulk.max-items:5000}")
+    private int maxBulkItems;
 
     @Autowired
-    public AdminController(AdminService service) {
+    public AdminController(AdminService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -29,19 +63,120 @@ public class AdminController {
         return ResponseEntity.status(201).body(created);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponseDTO> bulkCreate(@RequestBody List<AdminDTO> dtos) {
+        if (dtos.isEmpty() || dtos.size() > maxBulkItems) {
+            throw new InvalidRequestException("Between 1 and " + maxBulkItems + " admins can be created per request");
+        }
+        return ResponseEntity.ok(service.bulkCreateAdmins(dtos));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<AdminDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.getAdminById(id));
+    public ResponseEntity<AdminDTO> getById(@PathVariable Long id, WebRequest request) {
+        // Revalidation only needs the version, not the row
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = AdminETags.forVersion(service.getAdminVersion(id));
+            if (notModified(request, eTag)) {
+                return notModifiedResponse(eTag);
+            }
+        }
+        AdminDTO admin = service.getAdminById(id);
+        return withETag(AdminETags.forVersion(admin.getVersion()), admin);
     }
 
     @GetMapping
-    public ResponseEntity<List<AdminDTO>> getAll() {
-        return ResponseEntity.ok(service.getAllAdmins());
+    public ResponseEntity<List<AdminDTO>> getAll(WebRequest request) {
+        String eTag = AdminETags.forFingerprint(service.getAdminsFingerprint());
+        if (notModified(request, eTag)) {
+            return notModifiedResponse(eTag);
+        }
+        return withETag(eTag, service.getAllAdmins());
+    }
+
+    // Passing a limit opts into keyset pagination; the unpaged list above stays as-is
+    @GetMapping(params = "limit")
+    public ResponseEntity<AdminPageDTO> getPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "id") String sort) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxPageSize);
+        }
+        return ResponseEntity.ok(service.getAdminPage(cursor, limit, AdminSortField.fromParameter(sort)));
+    }
+
+    // Filters are optional and combined with AND; results are keyset-paged by id
+    @GetMapping("/search")
+    public ResponseEntity<AdminPageDTO> search(
+            @Valid AdminSearchCriteria criteria,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxPageSize);
+        }
+        if (criteria.getMinAge() != null && criteria.getMaxAge() != null
+                && criteria.getMinAge() > criteria.getMaxAge()) {
+            throw new InvalidRequestException("minAge must not be greater than maxAge");
+        }
+        return ResponseEntity.ok(service.searchAdmins(criteria, cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        // One value per line (the generator's default root separator is a space); lines are
+        // flushed in batches below rather than after every value
+        ObjectWriter exportWriter = objectMapper.writerFor(AdminDTO.class)
+            .withRootValueSeparator("\n")
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = exportWriter.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                long[] written = {0};
+                service.exportAdmins(dto -> {
+                    try {
+                        exportWriter.writeValue(generator, dto);
+                        // Push the first line out immediately, then once per fetch-sized batch
+                        if (written[0]++ % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                // The separator only goes between values, so the last line is terminated here
+                if (written[0] > 0) {
+                    generator.writeRaw('\n');
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<AdminDTO> update(@PathVariable Long id, @Valid @RequestBody AdminDTO dto) {
-        return ResponseEntity.ok(service.updateAdmin(id, dto));
+    public ResponseEntity<AdminDTO> update(@PathVariable Long id, @Valid @RequestBody AdminDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = AdminETags.parseIfMatch(ifMatch);
+        AdminDTO updated = expectedVersion == null
+            ? service.updateAdmin(id, dto)
+            : service.updateAdmin(id, dto, expectedVersion);
+        return withETag(AdminETags.forVersion(updated.getVersion()), updated);
+    }
+
+    // Single conditional UPDATE of the supplied fields; the new ETag is returned instead of a body
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Long id, @Valid @RequestBody AdminPatchDTO patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = AdminETags.parseIfMatch(ifMatch);
+        if (expectedVersion == null) {
+            throw new PreconditionRequiredException("PATCH requires an If-Match header with the admin's ETag");
+        }
+        if (patch.isEmpty()) {
+            throw new InvalidRequestException("At least one of name, email or age is required");
+        }
+        long version = service.patchAdmin(id, patch, expectedVersion);
+        return ResponseEntity.noContent().eTag(AdminETags.forVersion(version)).build();
     }
 
     @DeleteMapping("/{id}")
@@ -50,9 +185,46 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    // Offboarding: one DELETE per request (ids are chunked into bounded IN lists)
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResponseDTO> bulkDelete(@Valid @RequestBody BulkDeleteRequestDTO request) {
+        if (request.hasIds() == request.hasAgeRange()) {
+            throw new InvalidRequestException("Provide either ids or an age range (minAge/maxAge), not both");
+        }
+        if (request.hasIds()) {
+            if (request.getIds().size() > maxBulkItems) {
+                throw new InvalidRequestException("At most " + maxBulkItems + " admins can be deleted by id per request");
+            }
+            return ResponseEntity.ok(new BulkDeleteResponseDTO(service.deleteAdmins(request.getIds())));
+        }
+        int minAge = request.getMinAge() == null ? 0 : request.getMinAge();
+        int maxAge = request.getMaxAge() == null ? Integer.MAX_VALUE : request.getMaxAge();
+        if (minAge > maxAge) {
+            throw new InvalidRequestException("minAge must not be greater than maxAge");
+        }
+        return ResponseEntity.ok(new BulkDeleteResponseDTO(service.deleteAdminsByAgeRange(minAge, maxAge)));
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<AdminStatisticsDTO> getStatistics(
-            @RequestParam(defaultValue = "30") int seniorAgeThreshold) {
-        return ResponseEntity.ok(service.getAdminStatistics(seniorAgeThreshold));
+            @RequestParam(defaultValue = "30") int seniorAgeThreshold, WebRequest request) {
+        AdminStatisticsDTO statistics = service.getAdminStatistics(seniorAgeThreshold);
+        String eTag = AdminETags.forStatistics(statistics);
+        if (notModified(request, eTag)) {
+            return notModifiedResponse(eTag);
+        }
+        return withETag(eTag, statistics);
+    }
+
+    private static boolean notModified(WebRequest request, String eTag) {
+        return eTag != null && request.checkNotModified(eTag);
+    }
+
+    private static <T> ResponseEntity<T> notModifiedResponse(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+    }
+
+    private static <T> ResponseEntity<T> withETag(String eTag, T body) {
+        return eTag == null ? ResponseEntity.ok(body) : ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body);
     }
 }
\ No newline at end of file
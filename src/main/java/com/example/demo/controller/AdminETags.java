@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * ETag values for admin resources. A single admin gets a strong tag from its {@code @Version};
+ * collections get weak tags, since they only promise an equivalent representation.
+ */
+final class AdminETags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AdminETags() {}
+
+    static String forVersion(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Version named by an {@code If-Match} header, or {@code null} when the header is absent
+     * or {@code *}. Weak or foreign tags can never match (If-Match uses strong comparison).
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.charAt(0) == '"' && tag.charAt(tag.length() - 1) == '"') {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the admin's current ETag");
+    }
+
+    static String forFingerprint(String fingerprint) {
+        return fingerprint == null ? null : "W/\"" + fingerprint + "\"";
+    }
+
+    /** Statistics come from memory, so hashing the small DTO is cheaper than a table query. */
+    static String forStatistics(AdminStatisticsDTO statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        long hash = FNV_OFFSET;
+        hash = mix(hash, String.valueOf(statistics.getTotalAdmins()));
+        hash = mix(hash, String.valueOf(statistics.getAverageAge()));
+        hash = mix(hash, statistics.getYoungestAdmin());
+        hash = mix(hash, statistics.getOldestAdmin());
+        List<String> seniorEmails = statistics.getSeniorAdminEmails();
+        if (seniorEmails != null) {
+            for (String email : seniorEmails) {
+                hash = mix(hash, email);
+            }
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+        }
+        // Field separator, so ("ab", "c") and ("a", "bc") differ
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.TokenDTO;
+import com.example.demo.security.TokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(name = "app.security.token.enabled", havingValue = "true")
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    @Autowired
+    public AuthController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Exchanges HTTP Basic credentials for a short-lived bearer token. A bearer token cannot be
+     * exchanged for a fresh one, otherwise a token would never have to expire.
+     */
+    @PostMapping("/token")
+    public TokenDTO issueToken(Authentication authentication) {
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken)) {
+            throw new AccessDeniedException("Tokens are only issued for username and password credentials");
+        }
+        return new TokenDTO(tokenService.issue(authentication), "Bearer", tokenService.getTtl().getSeconds());
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 public class ResilienceController {
 
@@ -19,4 +21,9 @@ public class ResilienceController {
     public String pingExternal() {
         return client.callExternal();
     }
+
+    @GetMapping("/api/ping-external/async")
+    public CompletableFuture<String> pingExternalAsync() {
+        return client.callExternalAsync();
+    }
 }
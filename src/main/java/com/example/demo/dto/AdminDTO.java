@@ -1,5 +1,7 @@
 package com.example.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import javax.validation.constraints.Email;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
@@ -19,6 +21,10 @@ public class AdminDTO {
     @Min(value = 0, message = "Age must be >= 0")
     private Integer age;
 
+    // Exposed through the ETag header, not the body
+    @JsonIgnore
+    private Long version;
+
     public AdminDTO() {
     }
 
@@ -35,6 +41,11 @@ public class AdminDTO {
           this.age = age;
 	}
 
+    public AdminDTO(Long id, String name, String email, Integer age, Long version) {
+        this(id, name, email, age);
+        this.version = version;
+    }
+
 	public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getName() { return name; }
@@ -43,4 +54,6 @@ public class AdminDTO {
     public void setEmail(String email) { this.email = email; }
     public Integer getAge() { return age; }
     public void setAge(Integer age) { this.age = age; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class AdminPageDTO {
+    private List<AdminDTO> items;
+    private String next;
+
+    public AdminPageDTO() {}
+
+    public AdminPageDTO(List<AdminDTO> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public List<AdminDTO> getItems() { return items; }
+    public void setItems(List<AdminDTO> items) { this.items = items; }
+
+    /** Opaque cursor for the following page, or {@code null} on the last page. */
+    public String getNext() { return next; }
+    public void setNext(String next) { this.next = next; }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+
+/** Partial update of an admin; {@code null} fields are left unchanged. */
+public class AdminPatchDTO {
+
+    @Pattern(regexp = ".*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    // @Email alone accepts ""
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    @Email(message = "Invalid email")
+    private String email;
+
+    @Min(value = 0, message = "Age must be >= 0")
+    private Integer age;
+
+    public AdminPatchDTO() {
+    }
+
+    public AdminPatchDTO(String name, String email, Integer age) {
+        this.name = name;
+        this.email = email;
+        this.age = age;
+    }
+
+    public boolean isEmpty() {
+        return name == null && email == null && age == null;
+    }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public Integer getAge() { return age; }
+    public void setAge(Integer age) { this.age = age; }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+import javax.validation.constraints.Min;
+
+/** Query parameters of {@code GET /api/admins/search}; every filter is optional. */
+public class AdminSearchCriteria {
+    private String namePrefix;
+    private String emailDomain;
+
+    @Min(value = 0, message = "minAge must be >= 0")
+    private Integer minAge;
+
+    @Min(value = 0, message = "maxAge must be >= 0")
+    private Integer maxAge;
+
+    public AdminSearchCriteria() {}
+
+    public AdminSearchCriteria(String namePrefix, String emailDomain, Integer minAge, Integer maxAge) {
+        this.namePrefix = namePrefix;
+        this.emailDomain = emailDomain;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public String getNamePrefix() { return namePrefix; }
+    public void setNamePrefix(String namePrefix) { this.namePrefix = namePrefix; }
+    public String getEmailDomain() { return emailDomain; }
+    public void setEmailDomain(String emailDomain) { this.emailDomain = emailDomain; }
+    public Integer getMinAge() { return minAge; }
+    public void setMinAge(Integer minAge) { this.minAge = minAge; }
+    public Integer getMaxAge() { return maxAge; }
+    public void setMaxAge(Integer maxAge) { this.maxAge = maxAge; }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import com.example.demo.exception.InvalidRequestException;
+
+/**
+ * Sort keys supported by keyset pagination. Every ordering is tie-broken on id so
+ * the (value, id) pair is unique and can be used as a seek cursor.
+ */
+public enum AdminSortField {
+    ID,
+    EMAIL,
+    AGE;
+
+    public static AdminSortField fromParameter(String value) {
+        for (AdminSortField field : values()) {
+            if (field.name().equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Unsupported sort field: " + value);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+public class BulkCreateItemDTO {
+
+    public enum Status { CREATED, CONFLICT, INVALID }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String email;
+    private String message;
+
+    public BulkCreateItemDTO() {}
+
+    public BulkCreateItemDTO(int index, Status status, Long id, String email, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.email = email;
+        this.message = message;
+    }
+
+    /** Position of the item in the request body. */
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class BulkCreateResponseDTO {
+    private int created;
+    private int conflicts;
+    private int invalid;
+    private List<BulkCreateItemDTO> results;
+
+    public BulkCreateResponseDTO() {}
+
+    public BulkCreateResponseDTO(List<BulkCreateItemDTO> results) {
+        this.results = results;
+        for (BulkCreateItemDTO result : results) {
+            switch (result.getStatus()) {
+                case CREATED: created++; break;
+                case CONFLICT: conflicts++; break;
+                default: invalid++; break;
+            }
+        }
+    }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    public int getConflicts() { return conflicts; }
+    public void setConflicts(int conflicts) { this.conflicts = conflicts; }
+    public int getInvalid() { return invalid; }
+    public void setInvalid(int invalid) { this.invalid = invalid; }
+    public List<BulkCreateItemDTO> getResults() { return results; }
+    public void setResults(List<BulkCreateItemDTO> results) { this.results = results; }
+}
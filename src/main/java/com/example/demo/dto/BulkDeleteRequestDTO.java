@@ -0,0 +1,38 @@
+package com.example.demo.dto;
+
+import javax.validation.constraints.Min;
+import java.util.List;
+
+/** Either a list of ids or an inclusive age range (either bound may be omitted), not both. */
+public class BulkDeleteRequestDTO {
+    private List<Long> ids;
+
+    @Min(value = 0, message = "minAge must be >= 0")
+    private Integer minAge;
+
+    @Min(value = 0, message = "maxAge must be >= 0")
+    private Integer maxAge;
+
+    public BulkDeleteRequestDTO() {}
+
+    public BulkDeleteRequestDTO(List<Long> ids, Integer minAge, Integer maxAge) {
+        this.ids = ids;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public Integer getMinAge() { return minAge; }
+    public void setMinAge(Integer minAge) { this.minAge = minAge; }
+    public Integer getMaxAge() { return maxAge; }
+    public void setMaxAge(Integer maxAge) { this.maxAge = maxAge; }
+}
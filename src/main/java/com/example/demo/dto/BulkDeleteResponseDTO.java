@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+public class BulkDeleteResponseDTO {
+    private int deleted;
+
+    public BulkDeleteResponseDTO() {}
+
+    public BulkDeleteResponseDTO(int deleted) {
+        this.deleted = deleted;
+    }
+
+    public int getDeleted() { return deleted; }
+    public void setDeleted(int deleted) { this.deleted = deleted; }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+public class TokenDTO {
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+
+    public TokenDTO() {}
+
+    public TokenDTO(String accessToken, String tokenType, long expiresIn) {
+        this.accessToken = accessToken;
+        this.tokenType = tokenType;
+        this.expiresIn = expiresIn;
+    }
+
+    public String getAccessToken() { return accessToken; }
+    public void setAccessToken(String accessToken) { this.accessToken = accessToken; }
+
+    public String getTokenType() { return tokenType; }
+    public void setTokenType(String tokenType) { this.tokenType = tokenType; }
+
+    /** Lifetime in seconds. */
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
+}
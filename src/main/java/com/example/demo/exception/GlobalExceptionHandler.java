@@ -1,16 +1,39 @@
 package com.example.demo.exception;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Bodies for errors whose message never varies are built once and shared
+    private static final Map<String, String> EMAIL_ALREADY_EXISTS = error("DUPLICATE", "Email already exists");
+    private static final Map<String, String> INVALID_ADMIN_DATA = error("BAD_REQUEST", "Invalid admin data");
+    private static final Map<String, String> CONCURRENT_MODIFICATION =
+        error("CONFLICT", "Admin was modified concurrently, retry with the latest version");
+    private static final Map<String, String> INTERNAL_ERROR = error("INTERNAL_ERROR", "An error occurred");
+    private static final Map<String, String> SERVICE_UNAVAILABLE =
+        error("SERVICE_UNAVAILABLE", "The server is busy, retry later");
+
+    // Named in db/migration/V1__create_admins.sql
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_admins_email";
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<?> handleNotFound(ResourceNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error("NOT_FOUND", ex.getMessage()));
@@ -21,25 +44,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error("DUPLICATE", ex.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<?> handleValidation(MethodArgumentNotValidException ex) {
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        // The unique constraint on admins.email is what catches concurrent creates of the same email
+        if (violatesConstraint(ex, EMAIL_UNIQUE_CONSTRAINT)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(EMAIL_ALREADY_EXISTS);
+        }
+        return ResponseEntity.badRequest().body(INVALID_ADMIN_DATA);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error("PRECONDITION_FAILED", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<?> handlePreconditionRequired(PreconditionRequiredException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(error("PRECONDITION_REQUIRED", ex.getMessage()));
+    }
+
+    // A concurrent writer bumped the version between our read and our flush
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(CONCURRENT_MODIFICATION);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<?> handleAccessDenied(AccessDeniedException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error("FORBIDDEN", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<?> handleInvalidRequest(InvalidRequestException ex) {
+        return ResponseEntity.badRequest().body(error("BAD_REQUEST", ex.getMessage()));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<?> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity.badRequest().body(error("BAD_REQUEST", "Invalid value for parameter '" + ex.getName() + "'"));
+    }
+
+    // Covers @RequestBody (MethodArgumentNotValidException) and query-parameter objects alike
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<?> handleValidation(BindException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(fe -> errors.put(fe.getField(), fe.getDefaultMessage()));
-        Map<String, Object> body = new HashMap<>();
+        Map<String, Object> body = new LinkedHashMap<>();
         body.put("type", "VALIDATION_ERROR");
         body.put("errors", errors);
         return ResponseEntity.badRequest().body(body);
     }
 
+    // Async execution mode: the offload executor is saturated or the handler ran past its timeout
+    @ExceptionHandler({RejectedExecutionException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<?> handleUnavailable(Exception ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleAll(Exception ex) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error("INTERNAL_ERROR", "An error occurred"));
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_ERROR);
+    }
+
+    // Drivers report the name with schema, quoting or index suffixes (H2: PUBLIC.UK_ADMINS_EMAIL_INDEX_8)
+    private static boolean violatesConstraint(DataIntegrityViolationException ex, String constraintName) {
+        if (!(ex.getCause() instanceof ConstraintViolationException)) {
+            return false;
+        }
+        String violated = ((ConstraintViolationException) ex.getCause()).getConstraintName();
+        return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName);
     }
 
-    private Map<String, String> error(String type, String message) {
-        Map<String, String> m = new HashMap<>();
-        m.put("type", type);
-        m.put("message", message);
-        return m;
+    // Insertion-ordered so "type" is always serialized before "message"; Map.of iteration order varies per JVM
+    private static Map<String, String> error(String type, String message) {
+        Map<String, String> body = new LinkedHashMap<>(4);
+        body.put("type", type);
+        body.put("message", Objects.requireNonNullElse(message, ""));
+        return Collections.unmodifiableMap(body);
     }
 }
@@ -0,0 +1,5 @@
+package com.example.demo.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) { super(message); }
+}
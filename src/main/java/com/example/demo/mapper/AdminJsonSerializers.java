@@ -0,0 +1,97 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the DTOs on the hot response paths (lists, export, statistics).
+ * They skip the reflective bean serializer's property lookups and per-field accessor calls and
+ * write pre-encoded field names. Output matches the default serializer field for field: same
+ * order, nulls written, {@code version} left out.
+ */
+@JsonComponent
+public class AdminJsonSerializers {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString AGE = new SerializedString("age");
+
+    private static final SerializedString AVERAGE_AGE = new SerializedString("averageAge");
+    private static final SerializedString TOTAL_ADMINS = new SerializedString("totalAdmins");
+    private static final SerializedString SENIOR_ADMIN_EMAILS = new SerializedString("seniorAdminEmails");
+    private static final SerializedString YOUNGEST_ADMIN = new SerializedString("youngestAdmin");
+    private static final SerializedString OLDEST_ADMIN = new SerializedString("oldestAdmin");
+
+    public static class AdminDTOSerializer extends JsonSerializer<AdminDTO> {
+
+        @Override
+        public void serialize(AdminDTO admin, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(admin);
+            gen.writeFieldName(ID);
+            if (admin.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(admin.getId());
+            }
+            gen.writeFieldName(NAME);
+            gen.writeString(admin.getName());
+            gen.writeFieldName(EMAIL);
+            gen.writeString(admin.getEmail());
+            gen.writeFieldName(AGE);
+            if (admin.getAge() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(admin.getAge());
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<AdminDTO> handledType() {
+            return AdminDTO.class;
+        }
+    }
+
+    public static class AdminStatisticsDTOSerializer extends JsonSerializer<AdminStatisticsDTO> {
+
+        @Override
+        public void serialize(AdminStatisticsDTO statistics, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(statistics);
+            gen.writeFieldName(AVERAGE_AGE);
+            gen.writeNumber(statistics.getAverageAge());
+            gen.writeFieldName(TOTAL_ADMINS);
+            gen.writeNumber(statistics.getTotalAdmins());
+            gen.writeFieldName(SENIOR_ADMIN_EMAILS);
+            List<String> emails = statistics.getSeniorAdminEmails();
+            if (emails == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(emails, emails.size());
+                for (int i = 0; i < emails.size(); i++) {
+                    gen.writeString(emails.get(i));
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(YOUNGEST_ADMIN);
+            gen.writeString(statistics.getYoungestAdmin());
+            gen.writeFieldName(OLDEST_ADMIN);
+            gen.writeString(statistics.getOldestAdmin());
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<AdminStatisticsDTO> handledType() {
+            return AdminStatisticsDTO.class;
+        }
+    }
+}
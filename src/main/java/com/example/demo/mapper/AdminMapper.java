@@ -11,6 +11,7 @@ public class AdminMapper {
         dto.setName(admin.getName());
         dto.setEmail(admin.getEmail());
         dto.setAge(admin.getAge());
+        dto.setVersion(admin.getVersion());
         return dto;
     }
 
@@ -1,13 +1,21 @@
 package com.example.demo.model;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import java.util.Locale;
 
 @Entity
+// Table, sequence and indexes are created by src/main/resources/db/migration
 @Table(name = "admins")
+// UPDATE statements only list the columns that actually changed
+@DynamicUpdate
 public class Admin {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids are assigned before the INSERT, which lets Hibernate batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admins_seq")
+    @SequenceGenerator(name = "admins_seq", sequenceName = "admins_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -21,6 +29,15 @@ public class Admin {
     @NotNull(message = "Age is required")
     @Min(value = 0, message = "Age must be >= 0")
     private Integer age;
+
+    // Lower-cased part after '@' in its own column, so domain filters can use an index
+    @Column(name = "email_domain")
+    private String emailDomain;
+
+    // Bumped on every update; drives ETags and optimistic locking
+    @Version
+    private Long version;
+
     public Admin(String name, String email, Integer age) {
         this.name = name;
         this.email = email;
@@ -36,4 +53,21 @@ public class Admin {
     public void setEmail(String email) { this.email = email; }
     public Integer getAge() { return age; }
     public void setAge(Integer age) { this.age = age; }
+    public String getEmailDomain() { return emailDomain; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    @PrePersist
+    @PreUpdate
+    void deriveEmailDomain() {
+        this.emailDomain = domainOf(email);
+    }
+
+    public static String domainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
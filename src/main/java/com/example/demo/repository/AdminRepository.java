@@ -1,8 +1,119 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.AdminDTO;
 import com.example.demo.model.Admin;
+import com.example.demo.repository.projection.AdminAgeStatistics;
+import com.example.demo.repository.projection.AdminTableFingerprint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface AdminRepository extends JpaRepository<Admin, Long>, AdminRepositoryCustom {
+
+    /** JPQL fragment matching the service's notion of an active admin. */
+    String ACTIVE_ADMIN = "a.email is not null and a.age > 0";
+
+    /** Constructor expression selecting every {@link AdminDTO} field; append the where clause. */
+    String ADMIN_DTO = "select new com.example.demo.dto.AdminDTO(a.id, a.name, a.email, a.age, a.version) from Admin a";
 
-public interface AdminRepository extends JpaRepository<Admin, Long> {
     boolean existsByEmail(String email);
+
+    @Query("select a.email from Admin a where a.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Conditional GET: answer If-None-Match without hydrating any entity
+
+    @Query("select a.version from Admin a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select count(a) as rowCount, coalesce(sum(a.id), 0) as idSum, "
+         + "coalesce(sum(a.version), 0) as versionSum, coalesce(max(a.id), 0) as maxId from Admin a")
+    AdminTableFingerprint findTableFingerprint();
+
+    // Deletes run as single statements; the affected-row count replaces existence checks
+
+    @Modifying
+    @Transactional
+    @Query("delete from Admin a where a.id = :id")
+    int deleteAdminById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Admin a where a.id in :ids")
+    int deleteAdminsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Admin a where a.age between :minAge and :maxAge")
+    int deleteAdminsByAgeBetween(@Param("minAge") int minAge, @Param("maxAge") int maxAge);
+
+    @Query("select count(a) as totalAdmins, sum(a.age) as ageSum, "
+         + "min(case when a.email is not null and a.age > 0 then a.age end) as youngestAge, "
+         + "max(case when a.email is not null and a.age > 0 then a.age end) as oldestAge "
+         + "from Admin a")
+    AdminAgeStatistics findAgeStatistics();
+
+    @Query("select a.email from Admin a "
+         + "where a.email is not null and a.age > 0 and a.age >= :threshold order by a.email")
+    List<String> findSeniorEmails(@Param("threshold") int seniorAgeThreshold);
+
+    @Query("select a.name from Admin a where a.age = :age and a.email is not null order by a.id")
+    List<String> findNamesByAge(@Param("age") int age, Pageable pageable);
+
+    // Read paths select straight into AdminDTO: no managed entities, snapshots or dirty checks
+
+    @Transactional(readOnly = true)
+    @Query(ADMIN_DTO + " where a.id = :id")
+    Optional<AdminDTO> findDtoById(@Param("id") Long id);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN)
+    List<AdminDTO> findActiveDtos();
+
+    // Keyset pagination: callers pass an unsorted Pageable that only carries the row limit
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN + " order by a.id")
+    List<AdminDTO> findActivePageOrderById(Pageable pageable);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN + " and a.id > :id order by a.id")
+    List<AdminDTO> findActivePageAfterId(@Param("id") long id, Pageable pageable);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN + " order by a.email, a.id")
+    List<AdminDTO> findActivePageOrderByEmail(Pageable pageable);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN
+         + " and (a.email > :email or (a.email = :email and a.id > :id)) order by a.email, a.id")
+    List<AdminDTO> findActivePageAfterEmail(@Param("email") String email, @Param("id") long id, Pageable pageable);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN + " order by a.age, a.id")
+    List<AdminDTO> findActivePageOrderByAge(Pageable pageable);
+
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN
+         + " and (a.age > :age or (a.age = :age and a.id > :id)) order by a.age, a.id")
+    List<AdminDTO> findActivePageAfterAge(@Param("age") int age, @Param("id") long id, Pageable pageable);
+
+    // Export: rows are pulled from the JDBC cursor in fetch-size chunks instead of one list
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(ADMIN_DTO + " where " + ACTIVE_ADMIN + " order by a.id")
+    Stream<AdminDTO> streamActiveDtos();
+
+    // Email-only projection used to warm the in-memory email index
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.email from Admin a")
+    Stream<String> streamAllEmails();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.demo.dto.AdminDTO(a.id, a.name, a.email, a.age) from Admin a")
+    Stream<AdminDTO> streamAllAsDto();
 }
\ No newline at end of file
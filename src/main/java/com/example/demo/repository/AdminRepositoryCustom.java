@@ -0,0 +1,25 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.model.Admin;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** Statements Spring Data cannot derive; implemented in {@link AdminRepositoryCustomImpl}. */
+public interface AdminRepositoryCustom {
+
+    /**
+     * Sets the non-null columns and bumps the version in a single
+     * {@code UPDATE ... WHERE id = ? AND version = ?}.
+     *
+     * @return 1 if updated, 0 if the admin is missing or its version differs
+     */
+    int updateIfVersionMatches(Long id, long expectedVersion, String name, String email, Integer age);
+
+    /**
+     * First {@code limit} matches ordered by id, selected straight into DTOs and without
+     * the count query that {@code JpaSpecificationExecutor.findAll(spec, pageable)} would issue.
+     */
+    List<AdminDTO> findDtosOrderedById(Specification<Admin> specification, int limit);
+}
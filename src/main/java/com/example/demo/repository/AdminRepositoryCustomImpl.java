@@ -0,0 +1,62 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.model.Admin;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+public class AdminRepositoryCustomImpl implements AdminRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateIfVersionMatches(Long id, long expectedVersion, String name, String email, Integer age) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Admin> update = cb.createCriteriaUpdate(Admin.class);
+        Root<Admin> admin = update.from(Admin.class);
+        if (name != null) {
+            update.set(admin.<String>get("name"), name);
+        }
+        if (email != null) {
+            update.set(admin.<String>get("email"), email);
+            // Entity callbacks do not run for bulk statements
+            update.set(admin.<String>get("emailDomain"), Admin.domainOf(email));
+        }
+        if (age != null) {
+            update.set(admin.<Integer>get("age"), age);
+        }
+        // Bulk statements bypass Hibernate's version handling, so bump it explicitly
+        update.set(admin.<Long>get("version"), cb.sum(admin.<Long>get("version"), 1L));
+        update.where(cb.equal(admin.get("id"), id), cb.equal(admin.get("version"), expectedVersion));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AdminDTO> findDtosOrderedById(Specification<Admin> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AdminDTO> query = cb.createQuery(AdminDTO.class);
+        Root<Admin> admin = query.from(Admin.class);
+        query.select(cb.construct(AdminDTO.class, admin.get("id"), admin.get("name"), admin.get("email"),
+            admin.get("age"), admin.get("version")));
+        Predicate predicate = specification.toPredicate(admin, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(admin.get("id")));
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
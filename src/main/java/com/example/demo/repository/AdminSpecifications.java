@@ -0,0 +1,48 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Admin;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Search filters for {@link AdminRepositoryCustom#findDtosOrderedById}. Each one maps to an indexed
+ * column: name prefix to {@code idx_admins_name}, domain to {@code idx_admins_email_domain},
+ * age bounds to {@code idx_admins_age}.
+ */
+public final class AdminSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private AdminSpecifications() {}
+
+    /** Same definition as {@link AdminRepository#ACTIVE_ADMIN}. */
+    public static Specification<Admin> active() {
+        return (admin, query, cb) -> cb.and(cb.isNotNull(admin.get("email")), cb.gt(admin.get("age"), 0));
+    }
+
+    /** Case-sensitive, so the B-tree index on name can serve the prefix range. */
+    public static Specification<Admin> nameStartsWith(String prefix) {
+        return (admin, query, cb) -> cb.like(admin.get("name"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Admin> emailDomain(String domain) {
+        return (admin, query, cb) -> cb.equal(admin.get("emailDomain"), domain.toLowerCase(Locale.ROOT));
+    }
+
+    public static Specification<Admin> ageAtLeast(int minAge) {
+        return (admin, query, cb) -> cb.greaterThanOrEqualTo(admin.get("age"), minAge);
+    }
+
+    public static Specification<Admin> ageAtMost(int maxAge) {
+        return (admin, query, cb) -> cb.lessThanOrEqualTo(admin.get("age"), maxAge);
+    }
+
+    public static Specification<Admin> idGreaterThan(long id) {
+        return (admin, query, cb) -> cb.greaterThan(admin.get("id"), id);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
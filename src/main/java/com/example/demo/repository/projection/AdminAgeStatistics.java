@@ -0,0 +1,12 @@
+package com.example.demo.repository.projection;
+
+/**
+ * Aggregate row backing {@code /api/admins/statistics}. Youngest/oldest ages only
+ * consider active admins (email present, age > 0), matching the service predicate.
+ */
+public interface AdminAgeStatistics {
+    Long getTotalAdmins();
+    Long getAgeSum();
+    Integer getYoungestAge();
+    Integer getOldestAge();
+}
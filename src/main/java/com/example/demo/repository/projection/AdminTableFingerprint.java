@@ -0,0 +1,12 @@
+package com.example.demo.repository.projection;
+
+/**
+ * Cheap summary of the whole {@code admins} table used as a collection-level ETag: inserts
+ * raise {@code maxId}, deletes lower {@code rowCount} and updates raise {@code versionSum}.
+ */
+public interface AdminTableFingerprint {
+    Long getRowCount();
+    Long getIdSum();
+    Long getVersionSum();
+    Long getMaxId();
+}
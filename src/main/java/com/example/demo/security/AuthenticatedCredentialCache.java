@@ -0,0 +1,79 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * Short-lived record of credentials that already passed BCrypt verification.
+ *
+ * <p>Entries are keyed by an HMAC-SHA256 of username and password under a random per-process
+ * key, so neither the cache nor a heap dump reveals a password, and a wrong password can
+ * never collide with a cached entry in practice.
+ */
+@Component
+public class AuthenticatedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<ByteBuffer, Authentication> cache;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public AuthenticatedCredentialCache(@Value("${app.security.credential-cache.enabled:true}") boolean enabled,
+                                        @Value("${app.security.credential-cache.ttl:5m}") Duration ttl,
+                                        @Value("${app.security.credential-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = enabled
+            ? Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build()
+            : null;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public Authentication get(String username, String password) {
+        return cache == null ? null : cache.getIfPresent(fingerprint(username, password));
+    }
+
+    public void put(String username, String password, Authentication authentication) {
+        if (cache != null) {
+            cache.put(fingerprint(username, password), authentication);
+        }
+    }
+
+    /** Drops every cached credential for the user, e.g. after a password change. */
+    public void evictUser(String username) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(authentication -> authentication.getName().equals(username));
+        }
+    }
+
+    private ByteBuffer fingerprint(String username, String password) {
+        Mac mac = macs.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(password.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(mac.doFinal());
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
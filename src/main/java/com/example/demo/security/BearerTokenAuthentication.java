@@ -0,0 +1,32 @@
+package com.example.demo.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Principal restored from a verified bearer token. Kept distinct from the
+ * {@code UsernamePasswordAuthenticationToken} produced by a Basic login, so endpoints can tell
+ * whether the caller actually presented credentials.
+ */
+public class BearerTokenAuthentication extends AbstractAuthenticationToken {
+
+    private final String username;
+
+    public BearerTokenAuthentication(String username, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.username = username;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return username;
+    }
+}
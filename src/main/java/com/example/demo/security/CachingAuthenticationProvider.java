@@ -0,0 +1,52 @@
+package com.example.demo.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Serves repeat HTTP Basic logins from {@link AuthenticatedCredentialCache} and only falls
+ * through to the delegate (BCrypt verification) on a miss. Failed attempts are never cached.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticatedCredentialCache credentialCache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthenticatedCredentialCache credentialCache) {
+        this.delegate = delegate;
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+        String username = authentication.getName();
+        String password = credentials.toString();
+
+        Authentication cached = credentialCache.get(username, password);
+        if (cached != null) {
+            // Fresh token per request: the caller may erase credentials or attach its own details
+            UsernamePasswordAuthenticationToken result =
+                new UsernamePasswordAuthenticationToken(cached.getPrincipal(), null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            credentialCache.put(username, password,
+                new UsernamePasswordAuthenticationToken(result.getPrincipal(), null, result.getAuthorities()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
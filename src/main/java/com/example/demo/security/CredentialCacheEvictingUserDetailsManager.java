@@ -0,0 +1,48 @@
+package com.example.demo.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * {@link InMemoryUserDetailsManager} that evicts cached credentials as soon as a user's
+ * password or account changes, so an old password stops working immediately.
+ */
+public class CredentialCacheEvictingUserDetailsManager extends InMemoryUserDetailsManager {
+
+    private final AuthenticatedCredentialCache credentialCache;
+
+    public CredentialCacheEvictingUserDetailsManager(AuthenticatedCredentialCache credentialCache, UserDetails... users) {
+        super(users);
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    public void updateUser(UserDetails user) {
+        super.updateUser(user);
+        credentialCache.evictUser(user.getUsername());
+    }
+
+    @Override
+    public void deleteUser(String username) {
+        super.deleteUser(username);
+        credentialCache.evictUser(username);
+    }
+
+    @Override
+    public void changePassword(String oldPassword, String newPassword) {
+        Authentication current = SecurityContextHolder.getContext().getAuthentication();
+        super.changePassword(oldPassword, newPassword);
+        if (current != null) {
+            credentialCache.evictUser(current.getName());
+        }
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetails updated = super.updatePassword(user, newPassword);
+        credentialCache.evictUser(user.getUsername());
+        return updated;
+    }
+}
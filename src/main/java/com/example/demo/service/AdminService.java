@@ -1,15 +1,32 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminPatchDTO;
+import com.example.demo.dto.AdminSearchCriteria;
+import com.example.demo.dto.AdminSortField;
 import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.dto.BulkCreateResponseDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface AdminService {
     AdminDTO createAdmin(AdminDTO adminDTO);
+    BulkCreateResponseDTO bulkCreateAdmins(List<AdminDTO> adminDTOs);
     AdminDTO getAdminById(Long id);
+    Long getAdminVersion(Long id);
+    String getAdminsFingerprint();
     List<AdminDTO> getAllAdmins();
+    AdminPageDTO getAdminPage(String cursor, int limit, AdminSortField sort);
+    AdminPageDTO searchAdmins(AdminSearchCriteria criteria, String cursor, int limit);
+    void exportAdmins(Consumer<AdminDTO> sink);
     AdminDTO updateAdmin(Long id, AdminDTO adminDTO);
+    AdminDTO updateAdmin(Long id, AdminDTO adminDTO, long expectedVersion);
+    long patchAdmin(Long id, AdminPatchDTO patch, long expectedVersion);
     void deleteAdmin(Long id);
+    int deleteAdmins(Collection<Long> ids);
+    int deleteAdminsByAgeRange(int minAge, int maxAge);
     AdminStatisticsDTO getAdminStatistics(int seniorAgeThreshold);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.demo.service.cache;
+
+import com.example.demo.dto.AdminDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link AdminDTO} keyed by id.
+ *
+ * <p>Writers must call {@link #invalidate(Long)} after their change is committed. Caffeine
+ * computes a missing entry while holding the key's lock, so an invalidation that races with
+ * an in-flight load waits for it and then removes whatever the load produced; a stale row
+ * can therefore never outlive the write that replaced it.
+ */
+@Component
+public class AdminCache {
+
+    private final Cache<Long, AdminDTO> cache;
+
+    public AdminCache(@Value("${app.admins.cache.enabled:true}") boolean enabled,
+                      @Value("${app.admins.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${app.admins.cache.ttl:10m}") Duration ttl) {
+        this.cache = enabled
+            ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build()
+            : null;
+    }
+
+    public AdminDTO get(Long id, Function<Long, AdminDTO> loader) {
+        return cache == null ? loader.apply(id) : cache.get(id, loader);
+    }
+
+    /** Cached entry without loading it, or {@code null}. */
+    public AdminDTO peek(Long id) {
+        return cache == null ? null : cache.getIfPresent(id);
+    }
+
+    public void invalidate(Long id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public long estimatedSize() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    /** Hit, miss and eviction counters since startup; empty when the cache is disabled. */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+}
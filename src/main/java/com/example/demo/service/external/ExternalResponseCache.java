@@ -0,0 +1,138 @@
+package com.example.demo.service.external;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loader with an optional stale-while-revalidate result cache for the external
+ * dependency.
+ *
+ * <p>Concurrent misses share one in-flight call. With the cache enabled, a value younger than
+ * {@code ttl} is returned directly; one younger than {@code ttl + stale-ttl} is returned while a
+ * single background refresh runs. The last good value is also offered to the fallback.
+ */
+@Component
+public class ExternalResponseCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoTime;
+
+    private final AtomicReference<CompletableFuture<String>> inFlight = new AtomicReference<>();
+    private volatile Entry last;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public ExternalResponseCache(@Value("${app.external.cache.enabled:false}") boolean enabled,
+                                 @Value("${app.external.cache.ttl:5s}") Duration ttl,
+                                 @Value("${app.external.cache.stale-ttl:60s}") Duration staleTtl) {
+        this(enabled, ttl, staleTtl, Executors.newSingleThreadExecutor(refreshThreadFactory()), System::nanoTime);
+    }
+
+    ExternalResponseCache(boolean enabled, Duration ttl, Duration staleTtl, Executor refreshExecutor, LongSupplier nanoTime) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleTtl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoTime = nanoTime;
+    }
+
+    public String get(Supplier<String> loader) {
+        Entry entry = last;
+        if (enabled && entry != null) {
+            long age = nanoTime.getAsLong() - entry.loadedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return entry.value;
+            }
+            if (age < ttlNanos + staleNanos) {
+                staleHits.increment();
+                if (inFlight.get() == null) {
+                    refreshExecutor.execute(() -> load(loader));
+                }
+                return entry.value;
+            }
+        }
+        misses.increment();
+        try {
+            return load(loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /** Last successfully loaded value still within the stale window, for fallbacks. */
+    public Optional<String> lastGood() {
+        Entry entry = last;
+        if (!enabled || entry == null || nanoTime.getAsLong() - entry.loadedAt >= ttlNanos + staleNanos) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    private CompletableFuture<String> load(Supplier<String> loader) {
+        while (true) {
+            CompletableFuture<String> existing = inFlight.get();
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+            CompletableFuture<String> call = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, call)) {
+                try {
+                    String value = loader.get();
+                    last = new Entry(value, nanoTime.getAsLong());
+                    call.complete(value);
+                } catch (RuntimeException e) {
+                    call.completeExceptionally(e);
+                } finally {
+                    inFlight.compareAndSet(call, null);
+                }
+                return call;
+            }
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long staleHitCount() { return staleHits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long coalescedCount() { return coalesced.sum(); }
+
+    private static CustomizableThreadFactory refreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("external-refresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static final class Entry {
+        final String value;
+        final long loadedAt;
+
+        Entry(String value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
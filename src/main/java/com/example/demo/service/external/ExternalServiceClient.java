@@ -1,28 +1,69 @@
 package com.example.demo.service.external;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 @Service
 public class ExternalServiceClient {
 
+    static final String FALLBACK_RESPONSE = "external-service-unavailable";
+    static final String RESILIENCE_INSTANCE = "externalService";
+
     private final RestTemplate restTemplate;
+    private final ExternalResponseCache responseCache;
+    private final String url;
+    private final Supplier<String> guardedFetch;
 
     @Autowired
-    public ExternalServiceClient(RestTemplate restTemplate) {
+    public ExternalServiceClient(RestTemplate restTemplate,
+                                 ExternalResponseCache responseCache,
+                                 CircuitBreakerRegistry circuitBreakers,
+                                 @Value("${app.external.url:http://localhost:9999/unavailable}") String url) {
         this.restTemplate = restTemplate;
+        this.responseCache = responseCache;
+        this.url = url;
+        // The cache sits in front of the breaker: fresh or stale values are served even while it is
+        // open, and every load, including background refreshes, is permitted and recorded by it
+        this.guardedFetch = CircuitBreaker.decorateSupplier(circuitBreakers.circuitBreaker(RESILIENCE_INSTANCE), this::fetch);
     }
 
-    @CircuitBreaker(name = "externalService", fallbackMethod = "fallback")
     public String callExternal() {
-        // Example: this URL will fail ; purpose is to show circuit breaker usage.
-        String url = "http://localhost:9999/unavailable";
-        return restTemplate.getForObject(url, String.class);
+        // Example: the default URL will fail ; purpose is to show circuit breaker usage.
+        try {
+            return responseCache.get(guardedFetch);
+        } catch (RuntimeException e) {
+            return fallback(e);
+        }
+    }
+
+    /**
+     * Same call on the {@code externalService} thread-pool bulkhead, so the caller's thread is
+     * not held; the time limiter cancels it once {@code timeout-duration} elapses.
+     */
+    @TimeLimiter(name = RESILIENCE_INSTANCE, fallbackMethod = "fallbackAsync")
+    @Bulkhead(name = RESILIENCE_INSTANCE, type = Bulkhead.Type.THREADPOOL, fallbackMethod = "fallbackAsync")
+    public CompletableFuture<String> callExternalAsync() {
+        return CompletableFuture.completedFuture(callExternal());
     }
 
     public String fallback(Throwable t) {
-        return "external-service-unavailable";
+        return responseCache.lastGood().orElse(FALLBACK_RESPONSE);
+    }
+
+    public CompletableFuture<String> fallbackAsync(Throwable t) {
+        return CompletableFuture.completedFuture(fallback(t));
+    }
+
+    private String fetch() {
+        return restTemplate.getForObject(url, String.class);
     }
 }
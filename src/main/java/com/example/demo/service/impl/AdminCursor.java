@@ -0,0 +1,70 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminSortField;
+import com.example.demo.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row on a page: the sort key value plus the id tie-breaker.
+ * Serialized as URL-safe Base64 so clients treat it as opaque.
+ */
+final class AdminCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final AdminSortField sort;
+    private final long id;
+    private final String value;
+
+    private AdminCursor(AdminSortField sort, long id, String value) {
+        this.sort = sort;
+        this.id = id;
+        this.value = value;
+    }
+
+    static AdminCursor after(AdminDTO last, AdminSortField sort) {
+        switch (sort) {
+            case EMAIL:
+                return new AdminCursor(sort, last.getId(), last.getEmail());
+            case AGE:
+                return new AdminCursor(sort, last.getId(), String.valueOf(last.getAge()));
+            default:
+                return new AdminCursor(sort, last.getId(), "");
+        }
+    }
+
+    static AdminCursor decode(String token, AdminSortField expectedSort) {
+        AdminCursor cursor;
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            // The value goes last so e-mail addresses may contain the separator
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            cursor = new AdminCursor(AdminSortField.valueOf(parts[0]), Long.parseLong(parts[1]), parts[2]);
+            if (cursor.sort == AdminSortField.AGE) {
+                Integer.parseInt(cursor.value);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        if (cursor.sort != expectedSort) {
+            throw new InvalidRequestException("Cursor was issued for a different sort field");
+        }
+        return cursor;
+    }
+
+    String encode() {
+        String raw = sort.name() + ':' + id + ':' + value;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    AdminSortField getSort() { return sort; }
+    long getId() { return id; }
+    String getValue() { return value; }
+}
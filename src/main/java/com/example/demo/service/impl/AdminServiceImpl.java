@@ -1,45 +1,90 @@
 package com.example.demo.service.impl;
 
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminPatchDTO;
+import com.example.demo.dto.AdminSearchCriteria;
+import com.example.demo.dto.AdminSortField;
 import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.dto.BulkCreateItemDTO;
+import com.example.demo.dto.BulkCreateResponseDTO;
 import com.example.demo.exception.DuplicateResourceException;
+import com.example.demo.exception.PreconditionFailedException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.functional.AdminProcessor;
 import com.example.demo.functional.AdminValidator;
 import com.example.demo.mapper.AdminMapper;
 import com.example.demo.model.Admin;
 import com.example.demo.repository.AdminRepository;
+import com.example.demo.repository.AdminSpecifications;
+import com.example.demo.repository.projection.AdminAgeStatistics;
+import com.example.demo.repository.projection.AdminTableFingerprint;
 import com.example.demo.service.AdminService;
+import com.example.demo.service.cache.AdminCache;
+import com.example.demo.service.index.EmailIndex;
+import com.example.demo.service.statistics.AdminStatisticsAggregator;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class AdminServiceImpl implements AdminService {
     
+    // DEBUG calls whose arguments need boxing or computing are guarded with isDebugEnabled()
     private static final Logger LOGGER = LoggerFactory.getLogger(AdminServiceImpl.class);
+    private static final String SERVICE_TIMER = "admin.service";
+    private static final String NO_ADMINS_FOUND = "No admins found";
+    private static final Pageable FIRST_ROW = PageRequest.of(0, 1);
+    // Bounded IN lists stay within driver parameter limits and keep the statement cacheable
+    private static final int DELETE_CHUNK_SIZE = 1000;
     private final AdminRepository repository;
+    private final Validator validator;
+    private final AdminCache adminCache;
+    private final EmailIndex emailIndex;
+    private final AdminStatisticsAggregator statisticsAggregator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.admins.bulk.batch-size:50}")
+    private int bulkBatchSize;
 
     // Functional interfaces implementations
     private final AdminValidator emailValidator = (email, age) -> 
         email != null && email.contains("@") && age != null && age > 0;
 
     private final AdminProcessor<Admin, AdminDTO> customAdminProcessor = admin ->
-        new AdminDTO(admin.getId(), admin.getName(), admin.getEmail(), admin.getAge());
+        new AdminDTO(admin.getId(), admin.getName(), admin.getEmail(), admin.getAge(), admin.getVersion());
     
-    private final Predicate<Admin> activeAdminPredicate = admin -> 
-        admin.getEmail() != null && admin.getAge() > 0;
-
-    public AdminServiceImpl(AdminRepository repository) {
+    public AdminServiceImpl(AdminRepository repository, Validator validator, AdminCache adminCache,
+                            EmailIndex emailIndex, AdminStatisticsAggregator statisticsAggregator) {
         this.repository = repository;
+        this.validator = validator;
+        this.adminCache = adminCache;
+        this.emailIndex = emailIndex;
+        this.statisticsAggregator = statisticsAggregator;
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
     public AdminDTO createAdmin(AdminDTO adminDTO) {
         LOGGER.debug("Attempting to create admin with email: {}", adminDTO.getEmail());
         
@@ -48,43 +93,272 @@ public class AdminServiceImpl implements AdminService {
             throw new IllegalArgumentException("Invalid admin data");
         }
 
-        if (repository.existsByEmail(adminDTO.getEmail())) {
+        // A definite miss in the email index skips the SQL round trip; the unique constraint
+        // still rejects concurrent creates, see GlobalExceptionHandler
+        if (emailIndex.mightContain(adminDTO.getEmail()) && repository.existsByEmail(adminDTO.getEmail())) {
             LOGGER.warn("Failed to create admin - email already exists: {}", adminDTO.getEmail());
             throw new DuplicateResourceException("Email already exists");
         }
 
         Admin admin = AdminMapper.toEntity(adminDTO);
         admin = repository.save(admin);
-        LOGGER.info("Successfully created admin with ID: {}", admin.getId());
-        
         // Using custom AdminProcessor
-        return customAdminProcessor.process(admin);
+        AdminDTO created = customAdminProcessor.process(admin);
+        adminCache.invalidate(admin.getId());
+        emailIndex.add(admin.getEmail());
+        statisticsAggregator.upsert(created);
+        LOGGER.info("Successfully created admin with ID: {}", admin.getId());
+        return created;
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional
+    public BulkCreateResponseDTO bulkCreateAdmins(List<AdminDTO> adminDTOs) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Attempting to bulk create {} admins", adminDTOs.size());
+        }
+        BulkCreateItemDTO[] results = new BulkCreateItemDTO[adminDTOs.size()];
+
+        // First occurrence of each valid email wins; later copies in the same request conflict
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < adminDTOs.size(); i++) {
+            AdminDTO dto = adminDTOs.get(i);
+            String problem = describeInvalid(dto);
+            if (problem != null) {
+                results[i] = new BulkCreateItemDTO(i, BulkCreateItemDTO.Status.INVALID, null,
+                    dto == null ? null : dto.getEmail(), problem);
+            } else if (candidates.putIfAbsent(dto.getEmail(), i) != null) {
+                results[i] = new BulkCreateItemDTO(i, BulkCreateItemDTO.Status.CONFLICT, null,
+                    dto.getEmail(), "Email is repeated in the request");
+            }
+        }
+
+        // One IN query replaces an existsByEmail round trip per item
+        Set<String> existing = candidates.isEmpty()
+            ? Collections.emptySet()
+            : new HashSet<>(repository.findExistingEmails(candidates.keySet()));
+
+        List<Admin> batch = new ArrayList<>(bulkBatchSize);
+        List<Integer> batchIndexes = new ArrayList<>(bulkBatchSize);
+        List<AdminDTO> created = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existing.contains(candidate.getKey())) {
+                results[index] = new BulkCreateItemDTO(index, BulkCreateItemDTO.Status.CONFLICT, null,
+                    candidate.getKey(), "Email already exists");
+                continue;
+            }
+            batch.add(AdminMapper.toEntity(adminDTOs.get(index)));
+            batchIndexes.add(index);
+            if (batch.size() >= bulkBatchSize) {
+                insertBatch(batch, batchIndexes, results, created);
+            }
+        }
+        insertBatch(batch, batchIndexes, results, created);
+        runAfterCommit(() -> created.forEach(dto -> {
+            emailIndex.add(dto.getEmail());
+            statisticsAggregator.upsert(dto);
+        }));
+
+        BulkCreateResponseDTO response = new BulkCreateResponseDTO(Arrays.asList(results));
+        LOGGER.info("Bulk create finished. Created: {}, conflicts: {}, invalid: {}",
+            response.getCreated(), response.getConflicts(), response.getInvalid());
+        return response;
+    }
+
+    private String describeInvalid(AdminDTO dto) {
+        if (dto == null) {
+            return "Admin is required";
+        }
+        Set<ConstraintViolation<AdminDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        return emailValidator.validate(dto.getEmail(), dto.getAge()) ? null : "Invalid admin data";
+    }
+
+    private void insertBatch(List<Admin> batch, List<Integer> batchIndexes, BulkCreateItemDTO[] results,
+                             List<AdminDTO> created) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // Flushing per batch sends one JDBC batch; clearing keeps the persistence context small
+        repository.saveAll(batch);
+        repository.flush();
+        for (int i = 0; i < batch.size(); i++) {
+            Admin admin = batch.get(i);
+            int index = batchIndexes.get(i);
+            results[index] = new BulkCreateItemDTO(index, BulkCreateItemDTO.Status.CREATED, admin.getId(),
+                admin.getEmail(), null);
+            created.add(AdminMapper.toDto(admin));
+        }
+        entityManager.clear();
+        batch.clear();
+        batchIndexes.clear();
+    }
+
+    // In-memory views must only see rows that actually committed
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
     public AdminDTO getAdminById(Long id) {
         LOGGER.debug("Fetching admin with ID: {}", id);
-        Admin admin = repository.findById(id)
+        return adminCache.get(id, this::loadAdmin);
+    }
+
+    private AdminDTO loadAdmin(Long id) {
+        AdminDTO admin = repository.findDtoById(id)
             .orElseThrow(() -> {
                 LOGGER.warn("Admin not found with ID: {}", id);
                 return new ResourceNotFoundException("Admin not found");
             });
         LOGGER.debug("Successfully retrieved admin with ID: {}", id);
-        return AdminMapper.toDto(admin);
+        return admin;
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    public Long getAdminVersion(Long id) {
+        // A cached row already carries its version; otherwise read the single column
+        AdminDTO cached = adminCache.peek(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return repository.findVersionById(id)
+            .orElseThrow(() -> {
+                LOGGER.warn("Admin not found with ID: {}", id);
+                return new ResourceNotFoundException("Admin not found");
+            });
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
+    public String getAdminsFingerprint() {
+        AdminTableFingerprint fingerprint = repository.findTableFingerprint();
+        return Long.toHexString(fingerprint.getRowCount())
+            + "-" + Long.toHexString(fingerprint.getMaxId())
+            + "-" + Long.toHexString(fingerprint.getIdSum())
+            + "-" + Long.toHexString(fingerprint.getVersionSum());
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    // Read-only: Hibernate runs the session with FlushMode.MANUAL, so commit skips flush and dirty checks
+    @Transactional(readOnly = true)
     public List<AdminDTO> getAllAdmins() {
         LOGGER.debug("Fetching all admins");
-        
-        // Using Predicate and Function
-        return repository.findAll().stream()
-            .filter(activeAdminPredicate)
-            .map(customAdminProcessor::process)
-            .collect(Collectors.toList());
+        return repository.findActiveDtos();
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional(readOnly = true)
+    public AdminPageDTO getAdminPage(String cursor, int limit, AdminSortField sort) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Fetching admin page sorted by {} with limit {}", sort, limit);
+        }
+
+        // Fetch one row past the limit to learn whether another page exists without a count query
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<AdminDTO> rows = cursor == null
+            ? findFirstPage(sort, window)
+            : findPageAfter(AdminCursor.decode(cursor, sort), window);
+        return toPage(rows, limit, sort);
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional(readOnly = true)
+    public AdminPageDTO searchAdmins(AdminSearchCriteria criteria, String cursor, int limit) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Searching admins with limit {}", limit);
+        }
+
+        // Every filter becomes a WHERE predicate on an indexed column; nothing is filtered in memory
+        Specification<Admin> specification = Specification.where(AdminSpecifications.active());
+        if (criteria.getNamePrefix() != null && !criteria.getNamePrefix().isEmpty()) {
+            specification = specification.and(AdminSpecifications.nameStartsWith(criteria.getNamePrefix()));
+        }
+        if (criteria.getEmailDomain() != null && !criteria.getEmailDomain().isEmpty()) {
+            specification = specification.and(AdminSpecifications.emailDomain(criteria.getEmailDomain()));
+        }
+        if (criteria.getMinAge() != null) {
+            specification = specification.and(AdminSpecifications.ageAtLeast(criteria.getMinAge()));
+        }
+        if (criteria.getMaxAge() != null) {
+            specification = specification.and(AdminSpecifications.ageAtMost(criteria.getMaxAge()));
+        }
+        if (cursor != null) {
+            specification = specification.and(
+                AdminSpecifications.idGreaterThan(AdminCursor.decode(cursor, AdminSortField.ID).getId()));
+        }
+        return toPage(repository.findDtosOrderedById(specification, limit + 1), limit, AdminSortField.ID);
+    }
+
+    private AdminPageDTO toPage(List<AdminDTO> rows, int limit, AdminSortField sort) {
+        boolean hasNext = rows.size() > limit;
+        List<AdminDTO> items = hasNext ? rows.subList(0, limit) : rows;
+        String next = hasNext ? AdminCursor.after(items.get(items.size() - 1), sort).encode() : null;
+        return new AdminPageDTO(items, next);
+    }
+
+    private List<AdminDTO> findFirstPage(AdminSortField sort, Pageable window) {
+        switch (sort) {
+            case EMAIL:
+                return repository.findActivePageOrderByEmail(window);
+            case AGE:
+                return repository.findActivePageOrderByAge(window);
+            default:
+                return repository.findActivePageOrderById(window);
+        }
+    }
+
+    private List<AdminDTO> findPageAfter(AdminCursor cursor, Pageable window) {
+        switch (cursor.getSort()) {
+            case EMAIL:
+                return repository.findActivePageAfterEmail(cursor.getValue(), cursor.getId(), window);
+            case AGE:
+                return repository.findActivePageAfterAge(Integer.parseInt(cursor.getValue()), cursor.getId(), window);
+            default:
+                return repository.findActivePageAfterId(cursor.getId(), window);
+        }
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional(readOnly = true)
+    public void exportAdmins(Consumer<AdminDTO> sink) {
+        LOGGER.debug("Exporting all admins");
+        long exported = 0;
+        // DTO rows are never attached to the persistence context, so memory stays flat regardless of row count
+        try (Stream<AdminDTO> admins = repository.streamActiveDtos()) {
+            Iterator<AdminDTO> iterator = admins.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                exported++;
+            }
+        }
+        LOGGER.info("Successfully exported {} admins", exported);
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
     public AdminDTO updateAdmin(Long id, AdminDTO adminDTO) {
         LOGGER.debug("Attempting to update admin with ID: {}", id);
         Admin admin = repository.findById(id)
@@ -98,64 +372,148 @@ public class AdminServiceImpl implements AdminService {
         admin.setAge(adminDTO.getAge());
         
         admin = repository.save(admin);
+        AdminDTO updated = AdminMapper.toDto(admin);
+        adminCache.invalidate(id);
+        emailIndex.add(admin.getEmail());
+        statisticsAggregator.upsert(updated);
+        LOGGER.info("Successfully updated admin with ID: {}", id);
+        return updated;
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    public AdminDTO updateAdmin(Long id, AdminDTO adminDTO, long expectedVersion) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Attempting to update admin with ID: {} at version {}", id, expectedVersion);
+        }
+        // One UPDATE ... WHERE id = ? AND version = ?; every column is supplied, so no read is needed
+        if (repository.updateIfVersionMatches(id, expectedVersion,
+                adminDTO.getName(), adminDTO.getEmail(), adminDTO.getAge()) == 0) {
+            throw versionMismatch(id, expectedVersion);
+        }
+        AdminDTO updated = new AdminDTO(id, adminDTO.getName(), adminDTO.getEmail(), adminDTO.getAge(), expectedVersion + 1);
+        adminCache.invalidate(id);
+        emailIndex.add(updated.getEmail());
+        statisticsAggregator.upsert(updated);
         LOGGER.info("Successfully updated admin with ID: {}", id);
-        return AdminMapper.toDto(admin);
+        return updated;
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
+    public long patchAdmin(Long id, AdminPatchDTO patch, long expectedVersion) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Attempting to patch admin with ID: {} at version {}", id, expectedVersion);
+        }
+        if (repository.updateIfVersionMatches(id, expectedVersion, patch.getName(), patch.getEmail(), patch.getAge()) == 0) {
+            throw versionMismatch(id, expectedVersion);
+        }
+        adminCache.invalidate(id);
+        if (patch.getEmail() != null) {
+            emailIndex.add(patch.getEmail());
+        }
+        statisticsAggregator.patch(id, patch.getName(), patch.getEmail(), patch.getAge());
+        LOGGER.info("Successfully patched admin with ID: {}", id);
+        return expectedVersion + 1;
+    }
+
+    // Zero rows updated: tell a missing admin apart from a stale version (failure path only)
+    private RuntimeException versionMismatch(Long id, long expectedVersion) {
+        if (!repository.findVersionById(id).isPresent()) {
+            LOGGER.warn("Failed to update - admin not found with ID: {}", id);
+            return new ResourceNotFoundException("Admin not found");
+        }
+        LOGGER.warn("Failed to update admin with ID: {} - version {} is stale", id, expectedVersion);
+        return new PreconditionFailedException("Admin has been modified since version " + expectedVersion);
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
     public void deleteAdmin(Long id) {
         LOGGER.debug("Attempting to delete admin with ID: {}", id);
-        if (!repository.existsById(id)) {
+        // A single DELETE; its row count doubles as the existence check
+        if (repository.deleteAdminById(id) == 0) {
             LOGGER.warn("Failed to delete - admin not found with ID: {}", id);
             throw new ResourceNotFoundException("Admin not found");
         }
-        repository.deleteById(id);
+        adminCache.invalidate(id);
+        statisticsAggregator.remove(id);
         LOGGER.info("Successfully deleted admin with ID: {}", id);
     }
 
     @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional
+    public int deleteAdmins(Collection<Long> ids) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Attempting to bulk delete {} admins", ids.size());
+        }
+        List<Long> distinctIds = ids.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += repository.deleteAdminsByIds(
+                distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size())));
+        }
+        runAfterCommit(() -> {
+            distinctIds.forEach(adminCache::invalidate);
+            statisticsAggregator.removeAll(distinctIds);
+        });
+        LOGGER.info("Bulk deleted {} of {} requested admins", deleted, distinctIds.size());
+        return deleted;
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
+    @Transactional
+    public int deleteAdminsByAgeRange(int minAge, int maxAge) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Attempting to delete admins aged {} to {}", minAge, maxAge);
+        }
+        int deleted = repository.deleteAdminsByAgeBetween(minAge, maxAge);
+        // The deleted ids are unknown here, so drop the whole cache
+        runAfterCommit(() -> {
+            adminCache.invalidateAll();
+            statisticsAggregator.removeByAgeRange(minAge, maxAge);
+        });
+        LOGGER.info("Deleted {} admins aged {} to {}", deleted, minAge, maxAge);
+        return deleted;
+    }
+
+    @Override
+    @Timed(SERVICE_TIMER)
     public AdminStatisticsDTO getAdminStatistics(int seniorAgeThreshold) {
-        LOGGER.debug("Calculating admin statistics with senior age threshold: {}", seniorAgeThreshold);
-        
-        List<Admin> admins = repository.findAll();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Calculating admin statistics with senior age threshold: {}", seniorAgeThreshold);
+        }
+        return statisticsAggregator.statistics(seniorAgeThreshold)
+            .orElseGet(() -> calculateStatisticsInDatabase(seniorAgeThreshold));
+    }
+
+    private AdminStatisticsDTO calculateStatisticsInDatabase(int seniorAgeThreshold) {
+        // Aggregates are computed by the database so no Admin entity is ever hydrated
+        AdminAgeStatistics ageStats = repository.findAgeStatistics();
+        long totalAdmins = ageStats.getTotalAdmins() == null ? 0L : ageStats.getTotalAdmins();
+
         AdminStatisticsDTO statistics = new AdminStatisticsDTO();
-        
-        
-        Predicate<Admin> isSenior = admin -> admin.getAge() >= seniorAgeThreshold;
-        Predicate<Admin> isActive = activeAdminPredicate;
-        
-        List<String> seniorEmails = admins.stream()
-            .filter(isActive.and(isSenior))
-            .map(Admin::getEmail)
-            .sorted()
-            .collect(Collectors.toList());
-            
-        
-        Optional<Admin> youngestAdmin = admins.stream()
-            .filter(activeAdminPredicate)
-            .min(Comparator.comparingInt(Admin::getAge));
-            
-        Optional<Admin> oldestAdmin = admins.stream()
-            .filter(activeAdminPredicate)
-            .max(Comparator.comparingInt(Admin::getAge));
-        
-       
-        statistics.setYoungestAdmin(youngestAdmin.map(Admin::getName).orElse("No admins found"));
-        statistics.setOldestAdmin(oldestAdmin.map(Admin::getName).orElse("No admins found"));
-        
+        statistics.setAverageAge(totalAdmins == 0 ? 0.0 : ageStats.getAgeSum().doubleValue() / totalAdmins);
+        statistics.setTotalAdmins((int) totalAdmins);
+        statistics.setYoungestAdmin(firstAdminNameWithAge(ageStats.getYoungestAge()));
+        statistics.setOldestAdmin(firstAdminNameWithAge(ageStats.getOldestAge()));
+        statistics.setSeniorAdminEmails(repository.findSeniorEmails(seniorAgeThreshold));
 
-            
-        DoubleSummaryStatistics ageStats = admins.stream()
-            .mapToDouble(Admin::getAge)
-            .summaryStatistics();
-            
-        statistics.setAverageAge(ageStats.getAverage());
-        statistics.setTotalAdmins((int) ageStats.getCount());
-        statistics.setSeniorAdminEmails(seniorEmails);
-        
         LOGGER.info("Successfully calculated admin statistics. Total admins: {}", statistics.getTotalAdmins());
         return statistics;
     }
 
-  
+    private String firstAdminNameWithAge(Integer age) {
+        if (age == null) {
+            return NO_ADMINS_FOUND;
+        }
+        return repository.findNamesByAge(age, FIRST_ROW).stream()
+            .findFirst()
+            .orElse(NO_ADMINS_FOUND);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.demo.service.index;
+
+import com.example.demo.repository.AdminRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over every admin email, used to skip the {@code existsByEmail}
+ * query when an address has definitely never been stored.
+ *
+ * <p>A positive answer only means "maybe" and is confirmed against the database, and deleted
+ * emails simply stay as false positives until the next {@link #rebuild()}. The unique
+ * constraint on {@code admins.email} remains the final arbiter for concurrent creates and for
+ * rows written outside this instance.
+ */
+@Component
+public class EmailIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailIndex.class);
+
+    private final AdminRepository repository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // null until the first rebuild completes; callers fall back to SQL in the meantime
+    private volatile BloomFilter filter;
+    // filter being populated by a rebuild, so concurrent writes land in both
+    private volatile BloomFilter building;
+
+    public EmailIndex(AdminRepository repository,
+                      @Value("${app.admins.email-index.enabled:true}") boolean enabled,
+                      @Value("${app.admins.email-index.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${app.admins.email-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /** {@code false} only when the email is definitely not stored. */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        return current == null || email == null || current.mightContain(email);
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(email);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        // Leave headroom so the false positive rate holds while the table keeps growing
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, repository.count() * 2), falsePositiveRate);
+        building = next;
+        long indexed = 0;
+        try (Stream<String> emails = repository.streamAllEmails()) {
+            for (String email : (Iterable<String>) emails::iterator) {
+                if (email != null) {
+                    next.put(email);
+                    indexed++;
+                }
+            }
+            filter = next;
+        } finally {
+            building = null;
+        }
+        LOGGER.info("Indexed {} admin emails in {} ms", indexed, (System.nanoTime() - started) / 1_000_000);
+    }
+}
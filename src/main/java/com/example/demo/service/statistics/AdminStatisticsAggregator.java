@@ -0,0 +1,254 @@
+package com.example.demo.service.statistics;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.repository.AdminRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Running admin statistics kept in memory so {@code /api/admins/statistics} needs no query.
+ *
+ * <p>{@code AdminServiceImpl} reports every committed write. Writes that bypass the service
+ * (bulk SQL, other instances, manual fixes) are picked up by {@link #reconcile()}, which
+ * rebuilds the state from the database on a fixed delay. Writes that arrive while a rebuild
+ * is scanning are journaled and replayed on top of it; every operation is an idempotent
+ * upsert or remove by id, so replaying one the scan already saw is harmless.
+ */
+@Component
+public class AdminStatisticsAggregator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdminStatisticsAggregator.class);
+    private static final String NO_ADMINS_FOUND = "No admins found";
+
+    private final AdminRepository repository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock
+    private State state = new State();
+    // guarded by lock; non-null only while reconcile() is scanning
+    private List<Consumer<State>> journal;
+    private volatile boolean ready;
+
+    public AdminStatisticsAggregator(AdminRepository repository,
+                                     @Value("${app.admins.statistics.in-memory.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    public void upsert(AdminDTO admin) {
+        Entry entry = new Entry(admin.getId(), admin.getName(), admin.getEmail(), admin.getAge());
+        apply(state -> state.put(entry));
+    }
+
+    /** Applies a partial update; {@code null} fields keep their current value. */
+    public void patch(Long id, String name, String email, Integer age) {
+        apply(state -> {
+            Entry current = state.byId.get(id);
+            // Unknown ids are left to the next reconcile, which reads the full row
+            if (current != null) {
+                state.put(new Entry(id,
+                    name != null ? name : current.name,
+                    email != null ? email : current.email,
+                    age != null ? age : current.age));
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        apply(state -> state.remove(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        List<Long> snapshot = new ArrayList<>(ids);
+        apply(state -> snapshot.forEach(state::remove));
+    }
+
+    /** Removes every admin, active or not, whose age is within {@code [minAge, maxAge]}. */
+    public void removeByAgeRange(int minAge, int maxAge) {
+        apply(state -> {
+            List<Long> matching = new ArrayList<>();
+            for (Entry entry : state.byId.values()) {
+                if (entry.age >= minAge && entry.age <= maxAge) {
+                    matching.add(entry.id);
+                }
+            }
+            matching.forEach(state::remove);
+        });
+    }
+
+    /** Empty until the first reconciliation has loaded the table, or when disabled. */
+    public Optional<AdminStatisticsDTO> statistics(int seniorAgeThreshold) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(state.toDto(seniorAgeThreshold));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.admins.statistics.reconcile-interval:PT5M}",
+               fixedDelayString = "${app.admins.statistics.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        boolean scanned = false;
+        try {
+            try (Stream<AdminDTO> rows = repository.streamAllAsDto()) {
+                rows.forEach(row -> rebuilt.put(new Entry(row.getId(), row.getName(), row.getEmail(), row.getAge())));
+            }
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (scanned) {
+                    journal.forEach(operation -> operation.accept(rebuilt));
+                    if (ready && (rebuilt.byId.size() != state.byId.size() || rebuilt.ageSum != state.ageSum)) {
+                        LOGGER.warn("Corrected admin statistics drift: count {} -> {}, age sum {} -> {}",
+                            state.byId.size(), rebuilt.byId.size(), state.ageSum, rebuilt.ageSum);
+                    }
+                    state = rebuilt;
+                    ready = true;
+                }
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        LOGGER.debug("Reconciled admin statistics for {} admins", rebuilt.byId.size());
+    }
+
+    private void apply(Consumer<State> operation) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            operation.accept(state);
+            if (journal != null) {
+                journal.add(operation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final String email;
+        private final int age;
+        // Same definition as the service's active-admin predicate
+        private final boolean active;
+
+        private Entry(Long id, String name, String email, Integer age) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.age = age == null ? 0 : age;
+            this.active = email != null && this.age > 0;
+        }
+    }
+
+    private static final class State {
+        // id breaks ties so two rows briefly sharing an email (before the next reconcile) are both kept
+        private static final Comparator<Entry> BY_EMAIL =
+            Comparator.comparing((Entry entry) -> entry.email).thenComparing(entry -> entry.id);
+
+        private final Map<Long, Entry> byId = new HashMap<>();
+        // active admins bucketed by age, each bucket ordered by id so ties resolve like the SQL path
+        private final NavigableMap<Integer, NavigableMap<Long, Entry>> activeByAge = new TreeMap<>();
+        // the same buckets ordered by email, so the senior list is a merge rather than a sort
+        private final NavigableMap<Integer, NavigableSet<Entry>> activeEmailsByAge = new TreeMap<>();
+        private long ageSum;
+
+        private void put(Entry entry) {
+            remove(entry.id);
+            byId.put(entry.id, entry);
+            ageSum += entry.age;
+            if (entry.active) {
+                activeByAge.computeIfAbsent(entry.age, age -> new TreeMap<>()).put(entry.id, entry);
+                activeEmailsByAge.computeIfAbsent(entry.age, age -> new TreeSet<>(BY_EMAIL)).add(entry);
+            }
+        }
+
+        private void remove(Long id) {
+            Entry previous = byId.remove(id);
+            if (previous == null) {
+                return;
+            }
+            ageSum -= previous.age;
+            if (previous.active) {
+                NavigableMap<Long, Entry> bucket = activeByAge.get(previous.age);
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    activeByAge.remove(previous.age);
+                }
+                NavigableSet<Entry> emails = activeEmailsByAge.get(previous.age);
+                emails.remove(previous);
+                if (emails.isEmpty()) {
+                    activeEmailsByAge.remove(previous.age);
+                }
+            }
+        }
+
+        private AdminStatisticsDTO toDto(int seniorAgeThreshold) {
+            int total = byId.size();
+            return new AdminStatisticsDTO(
+                total == 0 ? 0.0 : (double) ageSum / total,
+                total,
+                seniorEmails(seniorAgeThreshold),
+                firstName(activeByAge.firstEntry()),
+                firstName(activeByAge.lastEntry()));
+        }
+
+        // k-way merge of the email-ordered buckets at or above the threshold, k being the number of distinct ages
+        private List<String> seniorEmails(int seniorAgeThreshold) {
+            Collection<NavigableSet<Entry>> buckets = activeEmailsByAge.tailMap(seniorAgeThreshold, true).values();
+            List<String> seniorEmails = new ArrayList<>();
+            PriorityQueue<Entry> heads = new PriorityQueue<>(Math.max(1, buckets.size()), BY_EMAIL);
+            for (NavigableSet<Entry> bucket : buckets) {
+                heads.add(bucket.first());
+            }
+            while (!heads.isEmpty()) {
+                Entry entry = heads.poll();
+                seniorEmails.add(entry.email);
+                Entry next = activeEmailsByAge.get(entry.age).higher(entry);
+                if (next != null) {
+                    heads.add(next);
+                }
+            }
+            return seniorEmails;
+        }
+
+        private static String firstName(Map.Entry<Integer, NavigableMap<Long, Entry>> bucket) {
+            return bucket == null ? NO_ADMINS_FOUND : bucket.getValue().firstEntry().getValue().name;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- Ids are handed out in blocks of 50 (allocationSize on Admin.id), so Hibernate assigns
+-- them before the INSERT and can send inserts as JDBC batches.
+create sequence admins_seq start with 1 increment by 50;
+
+create table admins (
+    id           bigint       not null,
+    name         varchar(255) not null,
+    email        varchar(255) not null,
+    age          integer      not null,
+    -- Lower-cased part of email after '@', maintained by the application
+    email_domain varchar(255),
+    version      bigint       not null default 0,
+    constraint pk_admins primary key (id),
+    -- Duplicate check on create; its index also serves keyset pages sorted by email
+    constraint uk_admins_email unique (email)
+);
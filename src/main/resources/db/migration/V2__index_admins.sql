@@ -0,0 +1,8 @@
+-- Keyset pages sorted by age (order by age, id), age-range search and delete, statistics by age
+create index idx_admins_age on admins (age, id);
+
+-- Name prefix search (like 'prefix%')
+create index idx_admins_name on admins (name);
+
+-- Search by e-mail domain, returned in id order
+create index idx_admins_email_domain on admins (email_domain, id);
@@ -0,0 +1,91 @@
+package com.example.demo.nativeimage;
+
+import com.example.demo.controller.AdminController;
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPageDTO;
+import com.example.demo.dto.AdminPatchDTO;
+import com.example.demo.dto.AdminSearchCriteria;
+import com.example.demo.dto.AdminSortField;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.dto.BulkCreateItemDTO;
+import com.example.demo.dto.BulkCreateResponseDTO;
+import com.example.demo.dto.BulkDeleteRequestDTO;
+import com.example.demo.dto.BulkDeleteResponseDTO;
+import com.example.demo.dto.TokenDTO;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.model.Admin;
+import com.example.demo.repository.AdminRepositoryCustomImpl;
+import com.example.demo.repository.projection.AdminAgeStatistics;
+import com.example.demo.repository.projection.AdminTableFingerprint;
+import com.example.demo.service.external.ExternalServiceClient;
+import com.example.demo.service.impl.AdminServiceImpl;
+import com.example.demo.service.index.EmailIndex;
+import com.example.demo.service.statistics.AdminStatisticsAggregator;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.nativex.hint.AotProxyHint;
+import org.springframework.nativex.hint.JdkProxyHint;
+import org.springframework.nativex.hint.NativeHint;
+import org.springframework.nativex.hint.ProxyBits;
+import org.springframework.nativex.hint.ResourceHint;
+import org.springframework.nativex.hint.TypeAccess;
+import org.springframework.nativex.hint.TypeHint;
+import org.springframework.nativex.type.NativeConfiguration;
+
+/**
+ * Reflection and proxy hints the Spring AOT plugin cannot infer for this application. Only
+ * compiled by the {@code native} Maven profile; registered in META-INF/spring.factories.
+ */
+@NativeHint(
+    types = {
+        // JPA entity: Hibernate reads fields and calls the no-arg constructor and callbacks reflectively
+        @TypeHint(types = Admin.class, access = {
+            TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_FIELDS, TypeAccess.DECLARED_METHODS}),
+        // Request and response bodies bound by Jackson and MVC data binding, and JPQL constructor expressions
+        @TypeHint(types = {
+            AdminDTO.class, AdminPatchDTO.class, AdminPageDTO.class, AdminSearchCriteria.class,
+            AdminSortField.class, AdminStatisticsDTO.class, BulkCreateItemDTO.class, BulkCreateItemDTO.Status.class,
+            BulkCreateResponseDTO.class, BulkDeleteRequestDTO.class, BulkDeleteResponseDTO.class, TokenDTO.class
+        }, access = {
+            TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_FIELDS, TypeAccess.PUBLIC_METHODS}),
+        // @ExceptionHandler methods are discovered and invoked reflectively
+        @TypeHint(types = GlobalExceptionHandler.class, access = {
+            TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_METHODS}),
+        // Resilience4j looks fallback methods up by name and reads its annotations at runtime
+        @TypeHint(types = ExternalServiceClient.class, access = TypeAccess.DECLARED_METHODS),
+        @TypeHint(typeNames = {
+            "io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker",
+            "io.github.resilience4j.bulkhead.annotation.Bulkhead",
+            "io.github.resilience4j.timelimiter.annotation.TimeLimiter",
+            "io.github.resilience4j.circuitbreaker.configure.CircuitBreakerAspect",
+            "io.github.resilience4j.bulkhead.configure.BulkheadAspect",
+            "io.github.resilience4j.timelimiter.configure.TimeLimiterAspect",
+            "io.github.resilience4j.fallback.FallbackDecorators"
+        }, access = {TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.PUBLIC_METHODS})
+    },
+    // Spring Data interface projections are JDK proxies
+    jdkProxies = {
+        @JdkProxyHint(types = {AdminAgeStatistics.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class}),
+        @JdkProxyHint(types = {AdminTableFingerprint.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class})
+    },
+    // Class-based AOP proxies (@Transactional, @Timed, @Validated, Resilience4j) are generated at build time
+    aotProxies = {
+        @AotProxyHint(targetClass = AdminServiceImpl.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC),
+        @AotProxyHint(targetClass = ExternalServiceClient.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC),
+        @AotProxyHint(targetClass = AdminController.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC),
+        @AotProxyHint(targetClass = AdminStatisticsAggregator.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC),
+        @AotProxyHint(targetClass = EmailIndex.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC),
+        @AotProxyHint(targetClass = AdminRepositoryCustomImpl.class, interfaces = {SpringProxy.class, Advised.class,
+            DecoratingProxy.class}, proxyFeatures = ProxyBits.IS_STATIC)
+    },
+    resources = @ResourceHint(patterns = "db/migration/.*\\.sql")
+)
+public class AdminServiceNativeHints implements NativeConfiguration {
+}
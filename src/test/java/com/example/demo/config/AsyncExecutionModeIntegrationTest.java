@@ -0,0 +1,92 @@
+package com.example.demo.config;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.repository.AdminRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Real Tomcat, so requests go through servlet async and the async dispatch exactly as in production
+@SpringBootTest(classes = DemoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.execution.mode=async")
+class AsyncExecutionModeIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    private Long createdId;
+
+    private TestRestTemplate authenticated() {
+        return restTemplate.withBasicAuth("demo", "demo123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (createdId != null) {
+            adminRepository.deleteById(createdId);
+        }
+    }
+
+    @Test
+    void adminRequests_AreServedByTheOffloadExecutor() {
+        OffloadingHandlerAdapter adapter = assertInstanceOf(OffloadingHandlerAdapter.class, handlerAdapter);
+        long tasksBefore = adapter.getThreadPoolExecutor().getTaskCount();
+
+        ResponseEntity<AdminDTO> created = authenticated()
+                .postForEntity("/api/admins", new AdminDTO("Async Admin", "async@example.com", 41), AdminDTO.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        createdId = created.getBody().getId();
+
+        ResponseEntity<AdminDTO> fetched = authenticated()
+                .getForEntity("/api/admins/{id}", AdminDTO.class, createdId);
+        assertEquals(HttpStatus.OK, fetched.getStatusCode());
+        assertEquals("async@example.com", fetched.getBody().getEmail());
+        assertTrue(fetched.getHeaders().getETag() != null);
+
+        assertTrue(adapter.getThreadPoolExecutor().getTaskCount() >= tasksBefore + 2);
+    }
+
+    @Test
+    void exceptionsFromOffloadedHandlers_ReachTheExceptionHandler() {
+        ResponseEntity<JsonNode> response = authenticated()
+                .getForEntity("/api/admins/{id}", JsonNode.class, Long.MAX_VALUE);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("NOT_FOUND", response.getBody().get("type").asText());
+    }
+
+    @Test
+    void unauthenticatedRequests_AreRejectedBeforeOffloading() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/admins", String.class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    // Already asynchronous (StreamingResponseBody), so it is left to MVC's own task executor
+    @Test
+    void export_IsNotOffloaded() {
+        long tasksBefore = ((OffloadingHandlerAdapter) handlerAdapter).getThreadPoolExecutor().getTaskCount();
+
+        ResponseEntity<String> response = authenticated().getForEntity("/api/admins/export", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(tasksBefore, ((OffloadingHandlerAdapter) handlerAdapter).getThreadPoolExecutor().getTaskCount());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductionSettingsGuardTest {
+
+    private MockEnvironment productionEnvironment() {
+        return new MockEnvironment()
+                .withProperty("spring.jpa.hibernate.ddl-auto", "validate")
+                .withProperty("spring.jpa.open-in-view", "false")
+                .withProperty("spring.h2.console.enabled", "false")
+                .withProperty("spring.jpa.show-sql", "false")
+                .withProperty("spring.devtools.remote.secret", "")
+                .withProperty("spring.mvc.async.request-timeout", "30s")
+                .withProperty("app.demo.password", "a-real-secret");
+    }
+
+    @Test
+    void acceptsProductionSettings() {
+        assertTrue(ProductionSettingsGuard.findProblems(productionEnvironment()).isEmpty());
+    }
+
+    @Test
+    void reportsEveryDevelopmentSetting() {
+        MockEnvironment environment = productionEnvironment()
+                .withProperty("spring.jpa.hibernate.ddl-auto", "update")
+                .withProperty("spring.h2.console.enabled", "true")
+                .withProperty("spring.devtools.remote.secret", "mysecret")
+                .withProperty("spring.mvc.async.request-timeout", "3600000")
+                .withProperty("app.demo.password", "demo123");
+
+        List<String> problems = ProductionSettingsGuard.findProblems(environment);
+
+        assertEquals(5, problems.size(), problems.toString());
+    }
+
+    @Test
+    void openInViewDefaultsToEnabled() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.hibernate.ddl-auto", "validate")
+                .withProperty("app.demo.password", "a-real-secret");
+
+        List<String> problems = ProductionSettingsGuard.findProblems(environment);
+
+        assertEquals(List.of("spring.jpa.open-in-view must be false"), problems);
+    }
+
+    @Test
+    void requiresDdlAutoToBeSetExplicitly() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.open-in-view", "false")
+                .withProperty("app.demo.password", "a-real-secret");
+
+        List<String> problems = ProductionSettingsGuard.findProblems(environment);
+
+        assertEquals(List.of("spring.jpa.hibernate.ddl-auto must be set explicitly to validate or none"), problems);
+    }
+
+    @Test
+    void failsStartup() {
+        ProductionSettingsGuard guard = new ProductionSettingsGuard();
+        guard.setEnvironment(productionEnvironment().withProperty("spring.jpa.show-sql", "true"));
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> guard.postProcessBeanFactory(null));
+        assertTrue(failure.getMessage().contains("spring.jpa.show-sql"));
+    }
+}
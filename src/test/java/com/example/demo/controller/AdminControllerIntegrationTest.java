@@ -2,8 +2,10 @@ package com.example.demo.controller;
 
 import com.example.demo.DemoApplication;
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.BulkDeleteRequestDTO;
 import com.example.demo.model.Admin;
 import com.example.demo.repository.AdminRepository;
+import com.example.demo.service.statistics.AdminStatisticsAggregator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,11 +15,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 
 @SpringBootTest(classes = DemoApplication.class)
@@ -33,6 +43,9 @@ class AdminControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AdminStatisticsAggregator statisticsAggregator;
+
     private Admin testAdmin;
 
     private static final String TEST_USERNAME = "demo";
@@ -97,6 +110,56 @@ class AdminControllerIntegrationTest {
                 .andExpect(jsonPath("$.age", is(30)));
     }
 
+    @Test
+    void getAdminById_ConditionalGet() throws Exception {
+        String eTag = mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .header("If-None-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AdminDTO("John Doe", "john@example.com", 31))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .header("If-None-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.age", is(31)));
+    }
+
+    @Test
+    void getAllAdmins_ConditionalGet() throws Exception {
+        String eTag = mockMvc.perform(get("/api/admins")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/admins")
+                .header("If-None-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isNotModified());
+
+        adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+
+        mockMvc.perform(get("/api/admins")
+                .header("If-None-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     void getAdminById_NotFound() throws Exception {
         mockMvc.perform(get("/api/admins/{id}", 999L)
@@ -152,6 +215,86 @@ class AdminControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void updateAdmin_StaleIfMatchRejected() throws Exception {
+        String eTag = mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/admins/{id}", testAdmin.getId())
+                .header("If-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AdminDTO("First Writer", "john@example.com", 31))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+
+        mockMvc.perform(put("/api/admins/{id}", testAdmin.getId())
+                .header("If-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AdminDTO("Second Writer", "john@example.com", 32))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(jsonPath("$.name", is("First Writer")));
+    }
+
+    @Test
+    void patchAdmin_UpdatesOnlySuppliedFields() throws Exception {
+        String eTag = mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 45}"))
+                .andExpect(status().isPreconditionRequired());
+
+        String newETag = mockMvc.perform(patch("/api/admins/{id}", testAdmin.getId())
+                .header("If-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 45}"))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(header().string("ETag", newETag))
+                .andExpect(jsonPath("$.name", is("John Doe")))
+                .andExpect(jsonPath("$.age", is(45)));
+
+        mockMvc.perform(patch("/api/admins/{id}", testAdmin.getId())
+                .header("If-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 50}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void patchAdmin_RejectsBlankEmail() throws Exception {
+        String eTag = mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/admins/{id}", testAdmin.getId())
+                .header("If-Match", eTag)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.email", is("Email must not be blank")));
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(jsonPath("$.email", is("john@example.com")));
+    }
+
     @Test
     void deleteAdmin_Success() throws Exception {
         mockMvc.perform(delete("/api/admins/{id}", testAdmin.getId())
@@ -171,6 +314,79 @@ class AdminControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getStatistics_ReflectsCreatesAndDeletesMadeThroughTheService() throws Exception {
+        // setUp writes through the repository, so align the in-memory statistics with the table first
+        statisticsAggregator.reconcile();
+
+        for (AdminDTO admin : Arrays.asList(
+                new AdminDTO("Sam Senior", "sam@example.com", 45),
+                new AdminDTO("Amy Elder", "amy@example.com", 50))) {
+            mockMvc.perform(post("/api/admins")
+                    .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(admin)))
+                    .andExpect(status().isCreated());
+        }
+        mockMvc.perform(delete("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/admins/statistics")
+                .param("seniorAgeThreshold", "40")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAdmins", is(2)))
+                .andExpect(jsonPath("$.averageAge", is(47.5)))
+                .andExpect(jsonPath("$.seniorAdminEmails", is(Arrays.asList("amy@example.com", "sam@example.com"))))
+                .andExpect(jsonPath("$.youngestAdmin", is("Sam Senior")))
+                .andExpect(jsonPath("$.oldestAdmin", is("Amy Elder")));
+    }
+
+    @Test
+    void bulkDeleteAdmins_ByIds() throws Exception {
+        Admin jane = adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+        adminRepository.save(new Admin("Bob Smith", "bob@example.com", 40));
+
+        mockMvc.perform(delete("/api/admins")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkDeleteRequestDTO(
+                        Arrays.asList(testAdmin.getId(), jane.getId(), 999_999L), null, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(2)));
+
+        assertEquals(1, adminRepository.count());
+    }
+
+    @Test
+    void bulkDeleteAdmins_ByAgeRange() throws Exception {
+        adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+        adminRepository.save(new Admin("Bob Smith", "bob@example.com", 40));
+
+        mockMvc.perform(delete("/api/admins")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"minAge\": 26, \"maxAge\": 40}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(2)));
+
+        mockMvc.perform(get("/api/admins/{id}", testAdmin.getId())
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void bulkDeleteAdmins_RequiresExactlyOneFilter() throws Exception {
+        mockMvc.perform(delete("/api/admins")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, adminRepository.count());
+    }
+
     @Test
     void createAdmin_InvalidInput() throws Exception {
         AdminDTO invalidAdmin = new AdminDTO();
@@ -198,4 +414,164 @@ class AdminControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(invalidUpdate)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void getAdminPage_FollowsCursorToLastPage() throws Exception {
+        adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+        adminRepository.save(new Admin("Bob Smith", "bob@example.com", 40));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/admins")
+                .param("limit", "2")
+                .param("sort", "email")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].email", is("bob@example.com")))
+                .andExpect(jsonPath("$.items[1].email", is("jane@example.com")))
+                .andExpect(jsonPath("$.next", notNullValue()))
+                .andReturn();
+
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/admins")
+                .param("limit", "2")
+                .param("sort", "email")
+                .param("cursor", next)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].email", is("john@example.com")))
+                .andExpect(jsonPath("$.next", nullValue()));
+    }
+
+    @Test
+    void searchAdmins_CombinesFiltersAndPagesById() throws Exception {
+        adminRepository.save(new Admin("Johanna Roe", "johanna@Example.com", 45));
+        adminRepository.save(new Admin("Johnny Other", "johnny@other.org", 35));
+        adminRepository.save(new Admin("Jane Doe", "jane@example.com", 50));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/admins/search")
+                .param("namePrefix", "Joh")
+                .param("emailDomain", "example.com")
+                .param("minAge", "25")
+                .param("limit", "1")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].email", is("john@example.com")))
+                .andExpect(jsonPath("$.next", notNullValue()))
+                .andReturn();
+
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/admins/search")
+                .param("namePrefix", "Joh")
+                .param("emailDomain", "example.com")
+                .param("minAge", "25")
+                .param("limit", "1")
+                .param("cursor", next)
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].email", is("johanna@Example.com")))
+                .andExpect(jsonPath("$.next", nullValue()));
+    }
+
+    @Test
+    void searchAdmins_TreatsWildcardsInPrefixLiterally() throws Exception {
+        mockMvc.perform(get("/api/admins/search")
+                .param("namePrefix", "%")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    void searchAdmins_RejectsInvertedAgeRange() throws Exception {
+        mockMvc.perform(get("/api/admins/search")
+                .param("minAge", "40")
+                .param("maxAge", "30")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAdminPage_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/admins")
+                .param("limit", "2")
+                .param("cursor", "not-a-cursor")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAdminPage_LimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/admins")
+                .param("limit", "0")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportAdmins_StreamsNdjson() throws Exception {
+        adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+
+        MvcResult started = mockMvc.perform(get("/api/admins/export")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Jane Doe", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    void exportAdmins_WritesOneValuePerLine() throws Exception {
+        Admin jane = adminRepository.save(new Admin("Jane Doe", "jane@example.com", 25));
+
+        MvcResult started = mockMvc.perform(get("/api/admins/export")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expected = "{\"id\":" + testAdmin.getId() + ",\"name\":\"John Doe\",\"email\":\"john@example.com\",\"age\":30}\n"
+                + "{\"id\":" + jane.getId() + ",\"name\":\"Jane Doe\",\"email\":\"jane@example.com\",\"age\":25}\n";
+        assertEquals(expected, result.getResponse().getContentAsString());
+    }
+
+    @Test
+    void bulkCreateAdmins_ReportsPerItemOutcome() throws Exception {
+        List<AdminDTO> request = Arrays.asList(
+                new AdminDTO("Jane Doe", "jane@example.com", 25),
+                new AdminDTO("John Again", "john@example.com", 35),
+                new AdminDTO("Jane Copy", "jane@example.com", 26),
+                new AdminDTO("", "invalid-email", -1));
+
+        mockMvc.perform(post("/api/admins/bulk")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.conflicts", is(2)))
+                .andExpect(jsonPath("$.invalid", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[0].id", notNullValue()))
+                .andExpect(jsonPath("$.results[1].status", is("CONFLICT")))
+                .andExpect(jsonPath("$.results[2].status", is("CONFLICT")))
+                .andExpect(jsonPath("$.results[3].status", is("INVALID")));
+
+        assertEquals(2, adminRepository.count());
+    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPatchDTO;
 import com.example.demo.exception.DuplicateResourceException;
+import com.example.demo.exception.PreconditionFailedException;
+import com.example.demo.exception.PreconditionRequiredException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.service.AdminService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +37,8 @@ class AdminControllerTest {
 
     private AdminDTO adminDTO;
 
+    private final WebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest());
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -71,7 +80,7 @@ class AdminControllerTest {
     void testGetAdminById_Success() {
         when(adminService.getAdminById(1L)).thenReturn(adminDTO);
 
-        ResponseEntity<AdminDTO> response = adminController.getById(1L);
+        ResponseEntity<AdminDTO> response = adminController.getById(1L, webRequest);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -87,18 +96,42 @@ class AdminControllerTest {
                 .thenThrow(new ResourceNotFoundException("Admin not found"));
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            adminController.getById(1L);
+            adminController.getById(1L, webRequest);
         });
         
         verify(adminService).getAdminById(1L);
     }
 
+    @Test
+    void testGetAdminById_ReturnsVersionETag() {
+        adminDTO.setVersion(3L);
+        when(adminService.getAdminById(1L)).thenReturn(adminDTO);
+
+        ResponseEntity<AdminDTO> response = adminController.getById(1L, webRequest);
+
+        assertEquals("\"3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetAdminById_NotModifiedSkipsLoading() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admins/1");
+        request.addHeader("If-None-Match", "\"3\"");
+        when(adminService.getAdminVersion(1L)).thenReturn(3L);
+
+        ResponseEntity<AdminDTO> response =
+            adminController.getById(1L, new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(adminService, never()).getAdminById(any());
+    }
+
     @Test
     void testGetAllAdmins_Success() {
         List<AdminDTO> admins = Arrays.asList(adminDTO);
         when(adminService.getAllAdmins()).thenReturn(admins);
 
-        ResponseEntity<List<AdminDTO>> response = adminController.getAll();
+        ResponseEntity<List<AdminDTO>> response = adminController.getAll(webRequest);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -118,7 +151,7 @@ class AdminControllerTest {
 
         when(adminService.updateAdmin(eq(1L), any(AdminDTO.class))).thenReturn(updateDTO);
 
-        ResponseEntity<AdminDTO> response = adminController.update(1L, updateDTO);
+        ResponseEntity<AdminDTO> response = adminController.update(1L, updateDTO, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -135,12 +168,44 @@ class AdminControllerTest {
                 .thenThrow(new ResourceNotFoundException("Admin not found"));
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            adminController.update(1L, updateDTO);
+            adminController.update(1L, updateDTO, null);
         });
         
         verify(adminService).updateAdmin(eq(1L), any(AdminDTO.class));
     }
 
+    @Test
+    void testUpdateAdmin_IfMatchUsesConditionalUpdate() {
+        AdminDTO updated = new AdminDTO(1L, "Updated Name", "updated@example.com", 35, 4L);
+        when(adminService.updateAdmin(eq(1L), any(AdminDTO.class), eq(3L))).thenReturn(updated);
+
+        ResponseEntity<AdminDTO> response = adminController.update(1L, updated, "\"3\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        verify(adminService, never()).updateAdmin(eq(1L), any(AdminDTO.class));
+    }
+
+    @Test
+    void testPatchAdmin_RequiresIfMatch() {
+        AdminPatchDTO patch = new AdminPatchDTO(null, null, 40);
+
+        assertThrows(PreconditionRequiredException.class, () -> adminController.patch(1L, patch, null));
+        assertThrows(PreconditionFailedException.class, () -> adminController.patch(1L, patch, "W/\"3\""));
+        verifyNoInteractions(adminService);
+    }
+
+    @Test
+    void testPatchAdmin_ReturnsNewETag() {
+        AdminPatchDTO patch = new AdminPatchDTO(null, null, 40);
+        when(adminService.patchAdmin(1L, patch, 3L)).thenReturn(4L);
+
+        ResponseEntity<Void> response = adminController.patch(1L, patch, "\"3\"");
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
     @Test
     void testDeleteAdmin_Success() {
         doNothing().when(adminService).deleteAdmin(1L);
@@ -0,0 +1,48 @@
+package com.example.demo.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException(), constraintName));
+    }
+
+    @Test
+    void emailUniqueConstraint_IsReportedAsDuplicate() {
+        ResponseEntity<?> response = handler.handleDataIntegrityViolation(violation("PUBLIC.UK_ADMINS_EMAIL_INDEX_8"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("DUPLICATE", ((Map<?, ?>) response.getBody()).get("type"));
+    }
+
+    @Test
+    void otherConstraints_AreReportedAsInvalidData() {
+        ResponseEntity<?> notNull = handler.handleDataIntegrityViolation(violation(null));
+        ResponseEntity<?> other = handler.handleDataIntegrityViolation(violation("PUBLIC.CK_ADMINS_AGE"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, notNull.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, other.getStatusCode());
+        assertEquals("BAD_REQUEST", ((Map<?, ?>) other.getBody()).get("type"));
+    }
+
+    @Test
+    void errorBody_KeepsTypeBeforeMessage() {
+        ResponseEntity<?> response = handler.handleNotFound(new ResourceNotFoundException("Admin not found"));
+
+        assertEquals(List.of("type", "message"), List.copyOf(((Map<?, ?>) response.getBody()).keySet()));
+    }
+}
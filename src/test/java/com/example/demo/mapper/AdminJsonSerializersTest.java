@@ -0,0 +1,64 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdminJsonSerializersTest {
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper handWritten = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(new AdminJsonSerializers.AdminDTOSerializer())
+            .addSerializer(new AdminJsonSerializers.AdminStatisticsDTOSerializer()));
+
+    @Test
+    void testAdminDto_MatchesReflectiveOutputAndOmitsVersion() throws Exception {
+        AdminDTO admin = new AdminDTO(1L, "John \"JD\" Doe", "john@example.com", 30, 7L);
+
+        String json = handWritten.writeValueAsString(admin);
+
+        assertEquals(reflective.writeValueAsString(admin), json);
+        assertEquals("{\"id\":1,\"name\":\"John \\\"JD\\\" Doe\",\"email\":\"john@example.com\",\"age\":30}", json);
+    }
+
+    @Test
+    void testAdminDto_WritesNulls() throws Exception {
+        AdminDTO admin = new AdminDTO();
+
+        assertEquals(reflective.writeValueAsString(admin), handWritten.writeValueAsString(admin));
+    }
+
+    @Test
+    void testAdminDtoList_MatchesReflectiveOutput() throws Exception {
+        List<AdminDTO> admins = Arrays.asList(
+                new AdminDTO(1L, "John Doe", "john@example.com", 30),
+                new AdminDTO(2L, "Jane Doe", "jane@example.com", 25));
+
+        assertEquals(reflective.writeValueAsString(admins), handWritten.writeValueAsString(admins));
+    }
+
+    @Test
+    void testStatistics_MatchesReflectiveOutput() throws Exception {
+        AdminStatisticsDTO statistics = new AdminStatisticsDTO(27.5, 2, Arrays.asList("john@example.com", null),
+                "Jane Doe", "John Doe");
+
+        assertEquals(reflective.writeValueAsString(statistics), handWritten.writeValueAsString(statistics));
+    }
+
+    @Test
+    void testStatistics_WritesNullsAndEmptyLists() throws Exception {
+        AdminStatisticsDTO empty = new AdminStatisticsDTO(0.0, 0, Collections.emptyList(), null, null);
+        AdminStatisticsDTO unset = new AdminStatisticsDTO();
+
+        assertEquals(reflective.writeValueAsString(empty), handWritten.writeValueAsString(empty));
+        assertEquals(reflective.writeValueAsString(unset), handWritten.writeValueAsString(unset));
+    }
+}
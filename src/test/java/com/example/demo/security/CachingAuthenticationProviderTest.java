@@ -0,0 +1,76 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private CredentialCacheEvictingUserDetailsManager userDetailsManager;
+    private AuthenticationProvider bcrypt;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        AuthenticatedCredentialCache credentialCache = new AuthenticatedCredentialCache(true, Duration.ofMinutes(5), 100);
+        userDetailsManager = new CredentialCacheEvictingUserDetailsManager(credentialCache,
+            User.withUsername("demo").password(passwordEncoder.encode("demo123")).roles("USER").build());
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider();
+        dao.setUserDetailsService(userDetailsManager);
+        dao.setPasswordEncoder(passwordEncoder);
+        bcrypt = spy(dao);
+        provider = new CachingAuthenticationProvider(bcrypt, credentialCache);
+    }
+
+    @Test
+    void testAuthenticate_RepeatLoginServedFromCache() {
+        Authentication first = provider.authenticate(login("demo", "demo123"));
+        Authentication second = provider.authenticate(login("demo", "demo123"));
+
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        assertEquals("demo", second.getName());
+        assertNull(second.getCredentials());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        verify(bcrypt, times(1)).authenticate(any());
+    }
+
+    @Test
+    void testAuthenticate_WrongPasswordNeverServedFromCache() {
+        provider.authenticate(login("demo", "demo123"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("demo", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("demo", "wrong")));
+        verify(bcrypt, times(3)).authenticate(any());
+    }
+
+    @Test
+    void testUpdateUser_OldPasswordRejectedImmediately() {
+        provider.authenticate(login("demo", "demo123"));
+
+        userDetailsManager.updateUser(
+            User.withUsername("demo").password(passwordEncoder.encode("changed")).roles("USER").build());
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("demo", "demo123")));
+        assertTrue(provider.authenticate(login("demo", "changed")).isAuthenticated());
+    }
+
+    private static Authentication login(String username, String password) {
+        return new UsernamePasswordAuthenticationToken(username, password);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.security;
+
+import com.example.demo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Through the real security filter chain, with a TTL short enough to watch a token expire
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "app.security.token.enabled=true",
+        "app.security.token.ttl=3s"
+})
+@AutoConfigureMockMvc
+class TokenAuthenticationIntegrationTest {
+
+    private static final String TEST_USERNAME = "demo";
+    private static final String TEST_PASSWORD = "demo123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String issueToken() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/token")
+                .with(httpBasic(TEST_USERNAME, TEST_PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType", is("Bearer")))
+                .andExpect(jsonPath("$.expiresIn", is(3)))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    @Test
+    void issuedToken_AuthenticatesApiRequests() throws Exception {
+        String token = issueToken();
+
+        mockMvc.perform(get("/api/admins")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bearerToken_CannotBeExchangedForANewToken() throws Exception {
+        String token = issueToken();
+
+        mockMvc.perform(post("/api/auth/token")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.type", is("FORBIDDEN")));
+    }
+
+    @Test
+    void expiredToken_IsRejected() throws Exception {
+        String token = issueToken();
+
+        Thread.sleep(4000);
+
+        mockMvc.perform(get("/api/admins")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void invalidToken_IsRejected() throws Exception {
+        mockMvc.perform(get("/api/admins")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final TokenService tokenService =
+        new TokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void testVerify_RoundTripsUserAndAuthorities() {
+        String token = tokenService.issue(user("demo"));
+
+        Authentication authentication = tokenService.verify(token);
+
+        assertNotNull(authentication);
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("demo", authentication.getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"), authentication.getAuthorities());
+    }
+
+    @Test
+    void testVerify_RejectsTamperedPayload() {
+        String token = tokenService.issue(user("demo"));
+        String forged = tokenService.issue(user("admin"));
+        String spliced = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertNull(tokenService.verify(spliced));
+        assertNull(tokenService.verify("not-a-token"));
+        assertNull(tokenService.verify("***.***"));
+    }
+
+    @Test
+    void testVerify_RejectsTokenSignedWithAnotherSecret() {
+        TokenService other = new TokenService("fedcba9876543210fedcba9876543210", Duration.ofMinutes(15),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertNull(tokenService.verify(other.issue(user("demo"))));
+    }
+
+    @Test
+    void testVerify_RejectsExpiredToken() {
+        String token = tokenService.issue(user("demo"));
+        TokenService later = new TokenService(SECRET, Duration.ofMinutes(15),
+            Clock.fixed(NOW.plus(Duration.ofMinutes(15)), ZoneOffset.UTC));
+
+        assertNull(later.verify(token));
+    }
+
+    @Test
+    void testConstructor_RejectsShortSecret() {
+        assertThrows(IllegalStateException.class, () -> new TokenService("short", Duration.ofMinutes(15)));
+    }
+
+    private static Authentication user(String name) {
+        return new UsernamePasswordAuthenticationToken(name, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.service.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testGet_ConcurrentCallersShareOneCall() throws Exception {
+        ExternalResponseCache cache = new ExternalResponseCache(false, Duration.ZERO, Duration.ZERO, Runnable::run, now::get);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> slowLoader = () -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "pong";
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get(slowLoader)));
+            }
+            // Wait until every caller is either loading or joined to the in-flight call
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.coalescedCount() < 7 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("pong", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(7, cache.coalescedCount());
+    }
+
+    @Test
+    void testGet_FailureIsRethrownAndNotCached() {
+        ExternalResponseCache cache = new ExternalResponseCache(true, Duration.ofSeconds(5), Duration.ofSeconds(60), Runnable::run, now::get);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(() -> { throw new IllegalStateException("down"); }));
+        assertEquals("pong", cache.get(() -> "pong"));
+    }
+
+    @Test
+    void testGet_FreshValueServedFromCache() {
+        ExternalResponseCache cache = new ExternalResponseCache(true, Duration.ofSeconds(5), Duration.ofSeconds(60), Runnable::run, now::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(() -> "v" + calls.incrementAndGet());
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertEquals("v1", cache.get(() -> "v" + calls.incrementAndGet()));
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void testGet_StaleValueServedWhileRefreshing() {
+        List<Runnable> refreshes = new ArrayList<>();
+        ExternalResponseCache cache = new ExternalResponseCache(true, Duration.ofSeconds(5), Duration.ofSeconds(60), refreshes::add, now::get);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> loader = () -> "v" + calls.incrementAndGet();
+
+        cache.get(loader);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals("v1", cache.get(loader));
+        assertEquals(1, refreshes.size());
+        refreshes.get(0).run();
+        assertEquals("v2", cache.get(loader));
+        assertEquals(1, cache.staleHitCount());
+    }
+
+    @Test
+    void testLastGood_ExpiresAfterStaleWindow() {
+        ExternalResponseCache cache = new ExternalResponseCache(true, Duration.ofSeconds(5), Duration.ofSeconds(60), Runnable::run, now::get);
+
+        assertFalse(cache.lastGood().isPresent());
+        cache.get(() -> "pong");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals("pong", cache.lastGood().orElse(null));
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertFalse(cache.lastGood().isPresent());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.service.external;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * The response cache sits in front of the circuit breaker: loads and background refreshes are
+ * guarded and recorded by it, and cached values are still served while it is open.
+ */
+class ExternalServiceClientBreakerTest {
+
+    private static final String URL = "http://external/ping";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker breaker;
+    private ExternalServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        breaker = registry.circuitBreaker(ExternalServiceClient.RESILIENCE_INSTANCE);
+        // Refreshes run inline so the test can observe them
+        ExternalResponseCache cache = new ExternalResponseCache(true, Duration.ofSeconds(5), Duration.ofSeconds(60),
+            Runnable::run, now::get);
+        client = new ExternalServiceClient(restTemplate, cache, registry, URL);
+    }
+
+    @Test
+    void testCallExternal_ServesStaleValueWhileBreakerIsOpen() {
+        when(restTemplate.getForObject(URL, String.class)).thenReturn("pong");
+        assertEquals("pong", client.callExternal());
+
+        breaker.transitionToOpenState();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals("pong", client.callExternal());
+        // The refresh was refused by the open breaker instead of reaching the dependency
+        verify(restTemplate, times(1)).getForObject(URL, String.class);
+        assertEquals(1, breaker.getMetrics().getNumberOfNotPermittedCalls());
+    }
+
+    @Test
+    void testCallExternal_OpenBreakerWithoutCachedValueFallsBack() {
+        breaker.transitionToOpenState();
+
+        assertEquals(ExternalServiceClient.FALLBACK_RESPONSE, client.callExternal());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testCallExternal_FailedRefreshIsRecordedByBreaker() {
+        when(restTemplate.getForObject(URL, String.class))
+            .thenReturn("pong")
+            .thenThrow(new ResourceAccessException("connect timed out"));
+        assertEquals("pong", client.callExternal());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals("pong", client.callExternal());
+        assertEquals(1, breaker.getMetrics().getNumberOfSuccessfulCalls());
+        assertEquals(1, breaker.getMetrics().getNumberOfFailedCalls());
+    }
+}
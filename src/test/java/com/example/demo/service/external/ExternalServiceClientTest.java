@@ -0,0 +1,110 @@
+package com.example.demo.service.external;
+
+import com.example.demo.DemoApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the real client (pooled HttpClient, circuit breaker, bulkhead, time limiter) against a
+ * local stub server whose response delay each test controls.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+    "app.external.http.read-timeout=500ms",
+    "resilience4j.timelimiter.instances.externalService.timeout-duration=300ms",
+    "resilience4j.circuitbreaker.instances.externalService.sliding-window-size=100",
+    "resilience4j.circuitbreaker.instances.externalService.minimum-number-of-calls=100"
+})
+class ExternalServiceClientTest {
+
+    private static final HttpServer STUB = startStub();
+    private static volatile long stubDelayMillis;
+
+    @Autowired
+    private ExternalServiceClient client;
+
+    @DynamicPropertySource
+    static void externalUrl(DynamicPropertyRegistry registry) {
+        registry.add("app.external.url", () -> "http://localhost:" + STUB.getAddress().getPort() + "/ping");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        stubDelayMillis = 0;
+    }
+
+    @Test
+    void testCallExternal_ReturnsStubResponse() {
+        assertEquals("pong", client.callExternal());
+    }
+
+    @Test
+    void testCallExternal_ReadTimeoutFallsBack() {
+        stubDelayMillis = 1_000;
+
+        long start = System.nanoTime();
+        assertEquals(ExternalServiceClient.FALLBACK_RESPONSE, client.callExternal());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+    }
+
+    @Test
+    void testCallExternalAsync_ReturnsStubResponse() throws Exception {
+        assertEquals("pong", client.callExternalAsync().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCallExternalAsync_TimeLimiterFallsBack() throws Exception {
+        stubDelayMillis = 1_000;
+
+        long start = System.nanoTime();
+        assertEquals(ExternalServiceClient.FALLBACK_RESPONSE, client.callExternalAsync().get(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/ping", exchange -> {
+                try {
+                    Thread.sleep(stubDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                } catch (IOException e) {
+                    // Client already gave up after its timeout
+                }
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
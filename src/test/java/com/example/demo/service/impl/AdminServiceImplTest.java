@@ -1,24 +1,41 @@
 package com.example.demo.service.impl;
 
 import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminPatchDTO;
+import com.example.demo.dto.AdminStatisticsDTO;
 import com.example.demo.exception.DuplicateResourceException;
+import com.example.demo.exception.PreconditionFailedException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.AdminMapper;
 import com.example.demo.model.Admin;
 import com.example.demo.repository.AdminRepository;
+import com.example.demo.repository.projection.AdminAgeStatistics;
+import com.example.demo.service.cache.AdminCache;
+import com.example.demo.service.index.EmailIndex;
+import com.example.demo.service.statistics.AdminStatisticsAggregator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class AdminServiceImplTest {
@@ -26,6 +43,15 @@ class AdminServiceImplTest {
     @Mock
     private AdminRepository adminRepository;
 
+    @Spy
+    private AdminCache adminCache = new AdminCache(false, 0, Duration.ZERO);
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    @Mock
+    private AdminStatisticsAggregator statisticsAggregator;
+
     @InjectMocks
     private AdminServiceImpl adminService;
 
@@ -46,6 +72,8 @@ class AdminServiceImplTest {
         adminDTO.setName("John Doe");
         adminDTO.setEmail("john@example.com");
         adminDTO.setAge(30);
+
+        when(emailIndex.mightContain(anyString())).thenReturn(true);
     }
 
     @Test
@@ -75,9 +103,21 @@ class AdminServiceImplTest {
         verify(adminRepository, never()).save(any(Admin.class));
     }
 
+    @Test
+    void testCreateAdmin_EmailIndexMissSkipsExistenceQuery() {
+        when(emailIndex.mightContain(adminDTO.getEmail())).thenReturn(false);
+        when(adminRepository.save(any(Admin.class))).thenReturn(admin);
+
+        AdminDTO result = adminService.createAdmin(adminDTO);
+
+        assertEquals(adminDTO.getEmail(), result.getEmail());
+        verify(adminRepository, never()).existsByEmail(anyString());
+        verify(emailIndex).add(adminDTO.getEmail());
+    }
+
     @Test
     void testGetAdminById_Success() {
-        when(adminRepository.findById(1L)).thenReturn(Optional.of(admin));
+        when(adminRepository.findDtoById(1L)).thenReturn(Optional.of(AdminMapper.toDto(admin)));
 
         AdminDTO result = adminService.getAdminById(1L);
 
@@ -85,24 +125,40 @@ class AdminServiceImplTest {
         assertEquals(admin.getName(), result.getName());
         assertEquals(admin.getEmail(), result.getEmail());
         assertEquals(admin.getAge(), result.getAge());
-        verify(adminRepository).findById(1L);
+        verify(adminRepository).findDtoById(1L);
+        verify(adminRepository, never()).findById(any());
     }
 
     @Test
     void testGetAdminById_NotFound() {
-        when(adminRepository.findById(1L)).thenReturn(Optional.empty());
+        when(adminRepository.findDtoById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             adminService.getAdminById(1L);
         });
         
-        verify(adminRepository).findById(1L);
+        verify(adminRepository).findDtoById(1L);
+    }
+
+    @Test
+    void testGetAdminVersion_ReadsVersionColumnOnly() {
+        when(adminRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        assertEquals(4L, adminService.getAdminVersion(1L));
+        verify(adminRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetAdminVersion_NotFound() {
+        when(adminRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> adminService.getAdminVersion(1L));
     }
 
     @Test
     void testGetAllAdmins() {
-        List<Admin> admins = Arrays.asList(admin);
-        when(adminRepository.findAll()).thenReturn(admins);
+        List<AdminDTO> admins = Arrays.asList(AdminMapper.toDto(admin));
+        when(adminRepository.findActiveDtos()).thenReturn(admins);
 
         List<AdminDTO> results = adminService.getAllAdmins();
 
@@ -111,7 +167,8 @@ class AdminServiceImplTest {
         assertEquals(admin.getName(), results.get(0).getName());
         assertEquals(admin.getEmail(), results.get(0).getEmail());
         assertEquals(admin.getAge(), results.get(0).getAge());
-        verify(adminRepository).findAll();
+        verify(adminRepository).findActiveDtos();
+        verify(adminRepository, never()).findAll();
     }
 
     @Test
@@ -138,6 +195,8 @@ class AdminServiceImplTest {
         assertEquals(updateDTO.getAge(), result.getAge());
         verify(adminRepository).findById(1L);
         verify(adminRepository).save(any(Admin.class));
+        verify(adminCache).invalidate(1L);
+        verify(statisticsAggregator).upsert(any(AdminDTO.class));
     }
 
     @Test
@@ -153,26 +212,166 @@ class AdminServiceImplTest {
         verify(adminRepository, never()).save(any(Admin.class));
     }
 
+    @Test
+    void testUpdateAdmin_IfVersionMatchesIsSingleStatement() {
+        AdminDTO request = new AdminDTO("Updated", "updated@example.com", 35);
+        when(adminRepository.updateIfVersionMatches(1L, 3L, "Updated", "updated@example.com", 35)).thenReturn(1);
+
+        AdminDTO result = adminService.updateAdmin(1L, request, 3L);
+
+        assertEquals(4L, result.getVersion());
+        assertEquals("Updated", result.getName());
+        verify(adminRepository, never()).findById(any());
+        verify(adminRepository, never()).save(any());
+        verify(adminCache).invalidate(1L);
+        verify(statisticsAggregator).upsert(result);
+    }
+
+    @Test
+    void testUpdateAdmin_StaleVersion() {
+        when(adminRepository.updateIfVersionMatches(eq(1L), eq(3L), any(), any(), any())).thenReturn(0);
+        when(adminRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        assertThrows(PreconditionFailedException.class,
+            () -> adminService.updateAdmin(1L, new AdminDTO("Updated", "updated@example.com", 35), 3L));
+        verify(adminCache, never()).invalidate(any());
+    }
+
+    @Test
+    void testPatchAdmin_MissingAdmin() {
+        when(adminRepository.updateIfVersionMatches(eq(1L), eq(3L), any(), any(), any())).thenReturn(0);
+        when(adminRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> adminService.patchAdmin(1L, new AdminPatchDTO(null, null, 40), 3L));
+    }
+
+    @Test
+    void testPatchAdmin_UpdatesOnlySuppliedFields() {
+        when(adminRepository.updateIfVersionMatches(1L, 3L, null, null, 40)).thenReturn(1);
+
+        assertEquals(4L, adminService.patchAdmin(1L, new AdminPatchDTO(null, null, 40), 3L));
+        verify(statisticsAggregator).patch(1L, null, null, 40);
+        verify(emailIndex, never()).add(any());
+    }
+
     @Test
     void testDeleteAdmin_Success() {
-        when(adminRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(adminRepository).deleteById(1L);
+        when(adminRepository.deleteAdminById(1L)).thenReturn(1);
 
         adminService.deleteAdmin(1L);
 
-        verify(adminRepository).existsById(1L);
-        verify(adminRepository).deleteById(1L);
+        verify(adminRepository).deleteAdminById(1L);
+        verify(adminRepository, never()).existsById(any());
+        verify(adminRepository, never()).deleteById(any());
+        verify(adminCache).invalidate(1L);
+        verify(statisticsAggregator).remove(1L);
     }
 
     @Test
     void testDeleteAdmin_NotFound() {
-        when(adminRepository.existsById(1L)).thenReturn(false);
+        when(adminRepository.deleteAdminById(1L)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> {
             adminService.deleteAdmin(1L);
         });
         
-        verify(adminRepository).existsById(1L);
-        verify(adminRepository, never()).deleteById(any());
+        verify(adminRepository).deleteAdminById(1L);
+        verify(adminCache, never()).invalidate(any());
+        verify(statisticsAggregator, never()).remove(any());
+    }
+
+    @Test
+    void testDeleteAdmins_ChunksDistinctIds() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(adminRepository.deleteAdminsByIds(anyCollection())).thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+
+        assertEquals(2500, adminService.deleteAdmins(ids));
+
+        verify(adminRepository, times(3)).deleteAdminsByIds(anyCollection());
+        verify(adminCache, times(2500)).invalidate(any());
+        verify(statisticsAggregator).removeAll(argThat(removed -> removed.size() == 2500));
+    }
+
+    @Test
+    void testDeleteAdminsByAgeRange() {
+        when(adminRepository.deleteAdminsByAgeBetween(18, 30)).thenReturn(4);
+
+        assertEquals(4, adminService.deleteAdminsByAgeRange(18, 30));
+
+        verify(adminCache).invalidateAll();
+        verify(statisticsAggregator).removeByAgeRange(18, 30);
+    }
+
+    @Test
+    void testGetAdminStatistics() {
+        AdminAgeStatistics ageStats = mock(AdminAgeStatistics.class);
+        when(ageStats.getTotalAdmins()).thenReturn(2L);
+        when(ageStats.getAgeSum()).thenReturn(55L);
+        when(ageStats.getYoungestAge()).thenReturn(25);
+        when(ageStats.getOldestAge()).thenReturn(30);
+        when(adminRepository.findAgeStatistics()).thenReturn(ageStats);
+        when(adminRepository.findNamesByAge(eq(25), any(Pageable.class))).thenReturn(Arrays.asList("Jane Doe"));
+        when(adminRepository.findNamesByAge(eq(30), any(Pageable.class))).thenReturn(Arrays.asList("John Doe"));
+        when(adminRepository.findSeniorEmails(30)).thenReturn(Arrays.asList("john@example.com"));
+
+        AdminStatisticsDTO result = adminService.getAdminStatistics(30);
+
+        assertEquals(2, result.getTotalAdmins());
+        assertEquals(27.5, result.getAverageAge());
+        assertEquals("Jane Doe", result.getYoungestAdmin());
+        assertEquals("John Doe", result.getOldestAdmin());
+        assertEquals(Arrays.asList("john@example.com"), result.getSeniorAdminEmails());
+        verify(adminRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetAdminStatistics_ServedFromAggregator() {
+        AdminStatisticsDTO cached = new AdminStatisticsDTO(30.0, 1, Arrays.asList("john@example.com"),
+                "John Doe", "John Doe");
+        when(statisticsAggregator.statistics(30)).thenReturn(Optional.of(cached));
+
+        assertSame(cached, adminService.getAdminStatistics(30));
+        verify(adminRepository, never()).findAgeStatistics();
+    }
+
+    @Test
+    void testGetAdminStatistics_NoAdmins() {
+        AdminAgeStatistics ageStats = mock(AdminAgeStatistics.class);
+        when(ageStats.getTotalAdmins()).thenReturn(0L);
+        when(adminRepository.findAgeStatistics()).thenReturn(ageStats);
+        when(adminRepository.findSeniorEmails(30)).thenReturn(Collections.emptyList());
+
+        AdminStatisticsDTO result = adminService.getAdminStatistics(30);
+
+        assertEquals(0, result.getTotalAdmins());
+        assertEquals(0.0, result.getAverageAge());
+        assertEquals("No admins found", result.getYoungestAdmin());
+        assertEquals("No admins found", result.getOldestAdmin());
+        assertTrue(result.getSeniorAdminEmails().isEmpty());
+    }
+
+    @Test
+    void testGetAdminById_ServedFromCacheUntilUpdated() {
+        AdminCache enabledCache = new AdminCache(true, 100, Duration.ofMinutes(1));
+        AdminServiceImpl cachingService = new AdminServiceImpl(adminRepository, null, enabledCache, emailIndex,
+                statisticsAggregator);
+        when(adminRepository.findDtoById(1L)).thenAnswer(invocation -> Optional.of(AdminMapper.toDto(admin)));
+        when(adminRepository.findById(1L)).thenReturn(Optional.of(admin));
+        when(adminRepository.save(any(Admin.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        cachingService.getAdminById(1L);
+        cachingService.getAdminById(1L);
+        verify(adminRepository, times(1)).findDtoById(1L);
+        assertEquals(1, enabledCache.stats().hitCount());
+
+        AdminDTO updateDTO = new AdminDTO("Updated Name", "updated@example.com", 35);
+        cachingService.updateAdmin(1L, updateDTO);
+
+        assertEquals("Updated Name", cachingService.getAdminById(1L).getName());
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.demo.service.index;
+
+import com.example.demo.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class EmailIndexTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private EmailIndex emailIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        emailIndex = new EmailIndex(adminRepository, true, 1000, 0.01);
+    }
+
+    @Test
+    void testMightContain_BeforeRebuildAlwaysMaybe() {
+        assertTrue(emailIndex.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void testRebuild_IndexesStoredEmails() {
+        when(adminRepository.count()).thenReturn(2L);
+        when(adminRepository.streamAllEmails()).thenReturn(Stream.of("john@example.com", "jane@example.com"));
+
+        emailIndex.rebuild();
+
+        assertTrue(emailIndex.mightContain("john@example.com"));
+        assertTrue(emailIndex.mightContain("jane@example.com"));
+        assertFalse(emailIndex.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void testAdd_NoFalseNegativesAndFewFalsePositives() {
+        when(adminRepository.count()).thenReturn(0L);
+        when(adminRepository.streamAllEmails()).thenReturn(Stream.empty());
+        emailIndex.rebuild();
+
+        IntStream.range(0, 1000).forEach(i -> emailIndex.add("admin" + i + "@example.com"));
+
+        IntStream.range(0, 1000).forEach(i -> assertTrue(emailIndex.mightContain("admin" + i + "@example.com")));
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> emailIndex.mightContain("other" + i + "@example.org"))
+                .count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
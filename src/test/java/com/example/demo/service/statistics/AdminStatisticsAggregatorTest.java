@@ -0,0 +1,114 @@
+package com.example.demo.service.statistics;
+
+import com.example.demo.dto.AdminDTO;
+import com.example.demo.dto.AdminStatisticsDTO;
+import com.example.demo.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class AdminStatisticsAggregatorTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private AdminStatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        aggregator = new AdminStatisticsAggregator(adminRepository, true);
+        when(adminRepository.streamAllAsDto()).thenReturn(Stream.of(
+                new AdminDTO(1L, "John Doe", "john@example.com", 30),
+                new AdminDTO(2L, "Jane Doe", "jane@example.com", 25)));
+    }
+
+    @Test
+    void testStatistics_EmptyUntilReconciled() {
+        assertFalse(aggregator.statistics(30).isPresent());
+    }
+
+    @Test
+    void testStatistics_MatchesReconciledState() {
+        aggregator.reconcile();
+
+        AdminStatisticsDTO statistics = aggregator.statistics(30).orElseThrow(AssertionError::new);
+
+        assertEquals(2, statistics.getTotalAdmins());
+        assertEquals(27.5, statistics.getAverageAge());
+        assertEquals("Jane Doe", statistics.getYoungestAdmin());
+        assertEquals("John Doe", statistics.getOldestAdmin());
+        assertEquals(Collections.singletonList("john@example.com"), statistics.getSeniorAdminEmails());
+    }
+
+    @Test
+    void testUpsertAndRemove_UpdateRunningAggregates() {
+        aggregator.reconcile();
+
+        aggregator.upsert(new AdminDTO(3L, "Old Timer", "old@example.com", 60));
+        aggregator.upsert(new AdminDTO(2L, "Jane Doe", "jane@example.com", 35));
+        aggregator.remove(1L);
+
+        AdminStatisticsDTO statistics = aggregator.statistics(30).orElseThrow(AssertionError::new);
+        assertEquals(2, statistics.getTotalAdmins());
+        assertEquals(47.5, statistics.getAverageAge());
+        assertEquals("Jane Doe", statistics.getYoungestAdmin());
+        assertEquals("Old Timer", statistics.getOldestAdmin());
+        assertEquals(Arrays.asList("jane@example.com", "old@example.com"), statistics.getSeniorAdminEmails());
+    }
+
+    @Test
+    void testStatistics_SeniorEmailsSortedAcrossAgeBuckets() {
+        aggregator.reconcile();
+
+        aggregator.upsert(new AdminDTO(3L, "Zoe", "zoe@example.com", 31));
+        aggregator.upsert(new AdminDTO(4L, "Adam", "adam@example.com", 70));
+        aggregator.upsert(new AdminDTO(5L, "Kim", "kim@example.com", 31));
+        aggregator.remove(5L);
+
+        AdminStatisticsDTO statistics = aggregator.statistics(30).orElseThrow(AssertionError::new);
+        assertEquals(Arrays.asList("adam@example.com", "john@example.com", "zoe@example.com"),
+                statistics.getSeniorAdminEmails());
+        assertEquals(Collections.singletonList("adam@example.com"),
+                aggregator.statistics(40).orElseThrow(AssertionError::new).getSeniorAdminEmails());
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        aggregator.reconcile();
+        aggregator.upsert(new AdminDTO(9L, "Ghost", "ghost@example.com", 99));
+        when(adminRepository.streamAllAsDto()).thenReturn(Stream.of(
+                new AdminDTO(1L, "John Doe", "john@example.com", 30)));
+
+        aggregator.reconcile();
+
+        AdminStatisticsDTO statistics = aggregator.statistics(0).orElseThrow(AssertionError::new);
+        assertEquals(1, statistics.getTotalAdmins());
+        assertEquals("John Doe", statistics.getOldestAdmin());
+    }
+
+    @Test
+    void testConcurrentWrites_AreNotLost() throws Exception {
+        aggregator.reconcile();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (long id = 100; id < 1100; id++) {
+            long adminId = id;
+            executor.submit(() -> aggregator.upsert(new AdminDTO(adminId, "Admin " + adminId, adminId + "@example.com", 40)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1002, aggregator.statistics(30).orElseThrow(AssertionError::new).getTotalAdmins());
+    }
+}